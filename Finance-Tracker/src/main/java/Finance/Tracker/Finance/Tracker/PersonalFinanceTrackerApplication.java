@@ -2,8 +2,10 @@ package Finance.Tracker.Finance.Tracker;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class PersonalFinanceTrackerApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,18 @@
+package Finance.Tracker.Finance.Tracker.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks GET endpoints whose response is fully determined by the caller's data version (see
+ * {@link Finance.Tracker.Finance.Tracker.service.DataVersionService}) and the request itself.
+ * They get an ETag (strong unless server compression is on), and a matching If-None-Match is
+ * answered with 304 before the controller runs: the only query is the primary-key read of the
+ * version, and no body is serialized.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+}
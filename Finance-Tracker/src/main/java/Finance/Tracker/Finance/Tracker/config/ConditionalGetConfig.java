@@ -0,0 +1,23 @@
+package Finance.Tracker.Finance.Tracker.config;
+
+import Finance.Tracker.Finance.Tracker.service.DataVersionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class ConditionalGetConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Value("${server.compression.enabled:false}")
+    private boolean compressionEnabled;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConditionalGetInterceptor(dataVersionService, compressionEnabled));
+    }
+}
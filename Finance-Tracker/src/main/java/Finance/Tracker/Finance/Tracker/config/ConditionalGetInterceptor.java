@@ -0,0 +1,91 @@
+package Finance.Tracker.Finance.Tracker.config;
+
+import Finance.Tracker.Finance.Tracker.security.UserDetailsImpl;
+import Finance.Tracker.Finance.Tracker.service.DataVersionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import java.time.LocalDate;
+import java.util.Enumeration;
+import java.util.Objects;
+import java.util.Optional;
+
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    static final String ETAG_ATTRIBUTE = ConditionalGetInterceptor.class.getName() + ".etag";
+    static final String CACHE_CONTROL = "private, no-cache";
+    static final String VARY = "Accept, Authorization";
+
+    private final DataVersionService dataVersionService;
+    private final boolean weak;
+
+    // Tomcat only gzips responses whose ETag is weak (a strong one would have to differ per
+    // content coding), so the tag is marked weak when server compression is on. If-None-Match
+    // uses the weak comparison either way, so 304s are unaffected.
+    public ConditionalGetInterceptor(DataVersionService dataVersionService, boolean weak) {
+        this.dataVersionService = dataVersionService;
+        this.weak = weak;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method) || !isConditional(method)
+                || !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetailsImpl user)) {
+            return true;
+        }
+
+        Optional<Long> version = dataVersionService.getVersion(user.getId());
+        if (version.isEmpty()) {
+            return true;
+        }
+        String tag = opaqueTag(request, user.getId(), version.get());
+        String etag = weak ? "W/" + tag : tag;
+        if (matches(request.getHeaders(HttpHeaders.IF_NONE_MATCH), tag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            response.addHeader(HttpHeaders.VARY, VARY);
+            return false;
+        }
+        // The header is added by ConditionalGetResponseAdvice, and only to successful responses.
+        request.setAttribute(ETAG_ATTRIBUTE, etag);
+        return true;
+    }
+
+    // The request line and Accept pick the representation; today's date is included because
+    // endpoints such as /budgets/status default to the current month.
+    private static String opaqueTag(HttpServletRequest request, Long userId, long version) {
+        int variant = Objects.hash(userId, request.getRequestURI(), request.getQueryString(),
+                request.getHeader(HttpHeaders.ACCEPT), LocalDate.now());
+        return "\"" + version + "-" + Integer.toHexString(variant) + "\"";
+    }
+
+    private static boolean isConditional(HandlerMethod method) {
+        return method.hasMethodAnnotation(ConditionalGet.class)
+                || method.getBeanType().isAnnotationPresent(ConditionalGet.class);
+    }
+
+    // Weak comparison: the W/ prefix is ignored on both sides.
+    private static boolean matches(Enumeration<String> headers, String opaqueTag) {
+        while (headers.hasMoreElements()) {
+            for (String candidate : headers.nextElement().split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(opaqueTag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
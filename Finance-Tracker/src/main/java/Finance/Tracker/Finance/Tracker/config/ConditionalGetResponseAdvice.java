@@ -0,0 +1,42 @@
+package Finance.Tracker.Finance.Tracker.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// Adds the ETag computed by ConditionalGetInterceptor to 2xx bodies. Error bodies are left
+// without one so a transient failure is never revalidated into a cached 304.
+@ControllerAdvice
+public class ConditionalGetResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        Object etag = servletRequest.getServletRequest().getAttribute(ConditionalGetInterceptor.ETAG_ATTRIBUTE);
+        int status = servletResponse.getServletResponse().getStatus();
+        if (etag != null && status >= 200 && status < 300) {
+            HttpHeaders headers = response.getHeaders();
+            headers.setETag(etag.toString());
+            headers.setCacheControl(ConditionalGetInterceptor.CACHE_CONTROL);
+            headers.set(HttpHeaders.VARY, ConditionalGetInterceptor.VARY);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,32 @@
+package Finance.Tracker.Finance.Tracker.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import java.io.IOException;
+
+// Buffers API responses so they are sent with a Content-Length. Message converters flush the
+// body, which would otherwise commit it as chunked, and Tomcat compresses chunked responses
+// whatever server.compression.min-response-size says. Bodies are bounded by the page size
+// cap; the CSV export streams and is left alone.
+public class ContentLengthFilter extends OncePerRequestFilter {
+
+    private static final String EXPORT_PATH = "/api/transactions/export";
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !uri.startsWith("/api/") || uri.startsWith(EXPORT_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        wrapper.copyBodyToResponse();
+    }
+}
@@ -0,0 +1,21 @@
+package Finance.Tracker.Finance.Tracker.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The most SQL statements a controller endpoint may issue per request, counted through
+ * Hibernate (see {@link SqlStatementCounter}). The count covers the whole request, including the
+ * data-version read of {@link ConditionalGet} endpoints and the version bump of writes. What
+ * happens when an endpoint goes over depends on query-budget.mode: nothing ("off"), a warning
+ * listing the statements ("log"), or a
+ * {@link Finance.Tracker.Finance.Tracker.exception.QueryBudgetExceededException} at the first
+ * statement over the budget ("fail", meant for integration tests).
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+    int value();
+}
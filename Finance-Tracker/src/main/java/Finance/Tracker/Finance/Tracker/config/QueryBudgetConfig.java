@@ -0,0 +1,24 @@
+package Finance.Tracker.Finance.Tracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// query-budget.mode: off (default), log (application-dev.properties) or fail (integration tests).
+@Configuration
+public class QueryBudgetConfig implements WebMvcConfigurer {
+
+    @Value("${query-budget.mode:off}")
+    private String mode;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        switch (mode) {
+            case "off" -> { }
+            case "log" -> registry.addInterceptor(new QueryBudgetInterceptor(false));
+            case "fail" -> registry.addInterceptor(new QueryBudgetInterceptor(true));
+            default -> throw new IllegalStateException("query-budget.mode must be off, log or fail, not " + mode);
+        }
+    }
+}
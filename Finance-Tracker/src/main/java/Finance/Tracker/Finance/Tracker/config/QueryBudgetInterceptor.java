@@ -0,0 +1,46 @@
+package Finance.Tracker.Finance.Tracker.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetInterceptor.class);
+
+    private final boolean failOnExceed;
+
+    public QueryBudgetInterceptor(boolean failOnExceed) {
+        this.failOnExceed = failOnExceed;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatementCounter.Recording recording = SqlStatementCounter.current();
+        if (recording == null || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        QueryBudget budget = method.getMethodAnnotation(QueryBudget.class);
+        if (budget == null) {
+            budget = method.getBeanType().getAnnotation(QueryBudget.class);
+        }
+        if (budget != null) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            recording.enforce(request.getMethod() + " " + pattern, budget.value(), failOnExceed);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        SqlStatementCounter.Recording recording = SqlStatementCounter.current();
+        if (recording != null && recording.isOverBudget()) {
+            log.warn("{} ran {} SQL statements, over its budget of {}:\n{}", recording.getEndpoint(),
+                    recording.getCount(), recording.getBudget(), String.join("\n", recording.getStatements()));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package Finance.Tracker.Finance.Tracker.config;
+
+import Finance.Tracker.Finance.Tracker.exception.QueryBudgetExceededException;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import java.util.ArrayList;
+import java.util.List;
+
+// Counts the SQL statements Hibernate prepares on the current thread while a request is being served.
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    static void start() {
+        CURRENT.set(new Recording());
+    }
+
+    static Recording stop() {
+        Recording recording = CURRENT.get();
+        CURRENT.remove();
+        return recording == null ? new Recording() : recording;
+    }
+
+    static Recording current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.add(sql);
+        }
+        return sql;
+    }
+
+    static class Recording {
+        private static final int MAX_CAPTURED = 200;
+
+        private int count;
+        private String endpoint;
+        private int budget = -1;
+        private boolean failOnExceed;
+        private List<String> statements;
+
+        // From here on the statements are kept, and with failOnExceed the first one over
+        // the budget throws instead of running.
+        void enforce(String endpoint, int budget, boolean failOnExceed) {
+            this.endpoint = endpoint;
+            this.budget = budget;
+            this.failOnExceed = failOnExceed;
+            this.statements = new ArrayList<>();
+        }
+
+        private void add(String sql) {
+            count++;
+            if (statements == null) {
+                return;
+            }
+            if (statements.size() < MAX_CAPTURED) {
+                statements.add(sql);
+            }
+            if (failOnExceed && count > budget) {
+                throw new QueryBudgetExceededException(endpoint + " exceeded its query budget of " + budget
+                        + " statements:\n" + String.join("\n", statements));
+            }
+        }
+
+        int getCount() { return count; }
+        String getEndpoint() { return endpoint; }
+        int getBudget() { return budget; }
+        boolean isOverBudget() { return budget >= 0 && count > budget; }
+        List<String> getStatements() { return statements; }
+    }
+}
@@ -1,13 +1,17 @@
 package Finance.Tracker.Finance.Tracker.controller;
 
 
+import Finance.Tracker.Finance.Tracker.config.QueryBudget;
 import Finance.Tracker.Finance.Tracker.dto.LoginRequest;
 import Finance.Tracker.Finance.Tracker.dto.RegisterRequest;
+import Finance.Tracker.Finance.Tracker.security.UserDetailsImpl;
 import Finance.Tracker.Finance.Tracker.service.AuthService;
-import Finance.Tracker.Finance.Tracker.service.CategoryService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import java.util.Map;
 
@@ -19,17 +23,12 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
-    @Autowired
-    private CategoryService categoryService;
-
     @PostMapping("/register")
+    @QueryBudget(5)
     public ResponseEntity<Map<String, Object>> registerUser(@Valid @RequestBody RegisterRequest registerRequest) {
         Map<String, Object> response = authService.registerUser(registerRequest);
 
         if ((Boolean) response.get("success")) {
-        
-            Long userId = (Long) response.get("userId");
-            categoryService.createDefaultCategories(userId);
             return ResponseEntity.ok(response);
         } else {
             return ResponseEntity.badRequest().body(response);
@@ -37,8 +36,9 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<Map<String, Object>> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
-        Map<String, Object> response = authService.authenticateUser(loginRequest);
+    public ResponseEntity<Map<String, Object>> authenticateUser(@Valid @RequestBody LoginRequest loginRequest,
+                                                                HttpServletRequest request) {
+        Map<String, Object> response = authService.authenticateUser(loginRequest, request.getRemoteAddr());
 
         if ((Boolean) response.get("success")) {
             return ResponseEntity.ok(response);
@@ -46,4 +46,14 @@ public class AuthController {
             return ResponseEntity.badRequest().body(response);
         }
     }
+
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAllSessions(Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetailsImpl userDetails)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        authService.revokeTokens(userDetails.getId());
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -1,7 +1,10 @@
 package Finance.Tracker.Finance.Tracker.controller;
 
 
+import Finance.Tracker.Finance.Tracker.config.ConditionalGet;
+import Finance.Tracker.Finance.Tracker.config.QueryBudget;
 import Finance.Tracker.Finance.Tracker.dto.BudgetDto;
+import Finance.Tracker.Finance.Tracker.dto.BudgetStatusDto;
 import Finance.Tracker.Finance.Tracker.security.UserDetailsImpl;
 import Finance.Tracker.Finance.Tracker.service.BudgetService;
 import jakarta.validation.Valid;
@@ -9,18 +12,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/budgets")
 @CrossOrigin(origins = "*")
+@ConditionalGet
 public class BudgetController {
 
     @Autowired
     private BudgetService budgetService;
 
     @GetMapping
+    @QueryBudget(3)
     public ResponseEntity<List<BudgetDto>> getBudgets(
             Authentication authentication,
             @RequestParam(required = false) Integer month,
@@ -39,7 +45,25 @@ public class BudgetController {
         return ResponseEntity.ok(budgets);
     }
 
+    @GetMapping("/status")
+    @QueryBudget(4)
+    public ResponseEntity<List<BudgetStatusDto>> getBudgetStatus(
+            Authentication authentication,
+            @RequestParam(required = false) Integer month,
+            @RequestParam(required = false) Integer year) {
+
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        Long userId = userDetails.getId();
+
+        LocalDate today = LocalDate.now();
+        int statusMonth = month != null ? month : today.getMonthValue();
+        int statusYear = year != null ? year : today.getYear();
+
+        return ResponseEntity.ok(budgetService.getBudgetStatus(userId, statusMonth, statusYear));
+    }
+
     @GetMapping("/{id}")
+    @QueryBudget(3)
     public ResponseEntity<BudgetDto> getBudgetById(
             Authentication authentication,
             @PathVariable Long id) {
@@ -57,6 +81,7 @@ public class BudgetController {
     }
 
     @PostMapping
+    @QueryBudget(5)
     public ResponseEntity<BudgetDto> createOrUpdateBudget(
             Authentication authentication,
             @Valid @RequestBody BudgetDto budgetDto) {
@@ -69,6 +94,7 @@ public class BudgetController {
     }
 
     @DeleteMapping("/{id}")
+    @QueryBudget(2)
     public ResponseEntity<Void> deleteBudget(
             Authentication authentication,
             @PathVariable Long id) {
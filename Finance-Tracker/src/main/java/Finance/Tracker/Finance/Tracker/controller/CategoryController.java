@@ -3,6 +3,8 @@ package Finance.Tracker.Finance.Tracker.controller;
 
 
 
+import Finance.Tracker.Finance.Tracker.config.ConditionalGet;
+import Finance.Tracker.Finance.Tracker.config.QueryBudget;
 import Finance.Tracker.Finance.Tracker.dto.CategoryDto;
 import Finance.Tracker.Finance.Tracker.dto.TransactionType;
 import Finance.Tracker.Finance.Tracker.security.UserDetailsImpl;
@@ -18,12 +20,14 @@ import java.util.Optional;
 @RestController
 @RequestMapping("/api/categories")
 @CrossOrigin(origins = "*")
+@ConditionalGet
 public class CategoryController {
 
     @Autowired
     private CategoryService categoryService;
 
     @GetMapping
+    @QueryBudget(2)
     public ResponseEntity<List<CategoryDto>> getAllCategories(
             Authentication authentication,
             @RequestParam(required = false) TransactionType type) {
@@ -42,6 +46,7 @@ public class CategoryController {
     }
 
     @GetMapping("/{id}")
+    @QueryBudget(2)
     public ResponseEntity<CategoryDto> getCategoryById(
             Authentication authentication,
             @PathVariable Long id) {
@@ -3,18 +3,40 @@ package Finance.Tracker.Finance.Tracker.controller;
 
 
 
+import Finance.Tracker.Finance.Tracker.config.ConditionalGet;
+import Finance.Tracker.Finance.Tracker.config.QueryBudget;
+import Finance.Tracker.Finance.Tracker.dto.BatchOperationDto;
+import Finance.Tracker.Finance.Tracker.dto.BatchResultDto;
+import Finance.Tracker.Finance.Tracker.dto.CursorPageDto;
+import Finance.Tracker.Finance.Tracker.dto.ImportResultDto;
+import Finance.Tracker.Finance.Tracker.dto.MonthlySummaryDto;
 import Finance.Tracker.Finance.Tracker.dto.TransactionDto;
+import Finance.Tracker.Finance.Tracker.dto.TransactionFilter;
 import Finance.Tracker.Finance.Tracker.dto.TransactionType;
 import Finance.Tracker.Finance.Tracker.security.UserDetailsImpl;
+import Finance.Tracker.Finance.Tracker.service.RollupService;
+import Finance.Tracker.Finance.Tracker.service.TransactionExportService;
+import Finance.Tracker.Finance.Tracker.service.TransactionImportService;
+import Finance.Tracker.Finance.Tracker.service.TransactionSearchService;
 import Finance.Tracker.Finance.Tracker.service.TransactionService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @RestController
@@ -25,7 +47,24 @@ public class TransactionController {
     @Autowired
     private TransactionService transactionService;
 
+    @Autowired
+    private RollupService rollupService;
+
+    @Autowired
+    private TransactionImportService transactionImportService;
+
+    @Autowired
+    private TransactionExportService transactionExportService;
+
+    @Autowired
+    private TransactionSearchService transactionSearchService;
+
+    @Value("${transactions.page.max-size:200}")
+    private int maxPageSize;
+
     @GetMapping
+    @ConditionalGet
+    @QueryBudget(4)
     public ResponseEntity<Page<TransactionDto>> getAllTransactions(
             Authentication authentication,
             @RequestParam(defaultValue = "0") int page,
@@ -33,15 +72,22 @@ public class TransactionController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @RequestParam(required = false) Long categoryId,
-            @RequestParam(required = false) TransactionType type) {
+            @RequestParam(required = false) List<Long> categoryIds,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) String description) {
 
+        checkPageSize(size);
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
         Long userId = userDetails.getId();
 
+        TransactionFilter filter = toFilter(startDate, endDate, categoryId, categoryIds,
+                type, minAmount, maxAmount, description);
+
         Page<TransactionDto> transactions;
-        if (startDate != null || endDate != null || categoryId != null || type != null) {
-            transactions = transactionService.getTransactionsWithFilters(
-                    userId, startDate, endDate, categoryId, type, page, size);
+        if (!filter.isEmpty()) {
+            transactions = transactionService.getTransactionsWithFilters(userId, filter, page, size);
         } else {
             transactions = transactionService.getAllTransactions(userId, page, size);
         }
@@ -49,7 +95,103 @@ public class TransactionController {
         return ResponseEntity.ok(transactions);
     }
 
+    @GetMapping("/scroll")
+    @ConditionalGet
+    @QueryBudget(3)
+    public ResponseEntity<CursorPageDto<TransactionDto>> scrollTransactions(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) List<Long> categoryIds,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) String description) {
+
+        checkPageSize(size);
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        Long userId = userDetails.getId();
+
+        TransactionFilter filter = toFilter(startDate, endDate, categoryId, categoryIds,
+                type, minAmount, maxAmount, description);
+        CursorPageDto<TransactionDto> transactions = transactionService.getTransactionsAfterCursor(
+                userId, cursor, size, filter);
+        return ResponseEntity.ok(transactions);
+    }
+
+    // Not conditional: results follow the index refresh, which trails the data version.
+    @GetMapping("/search")
+    @QueryBudget(2)
+    public ResponseEntity<Page<TransactionDto>> searchTransactions(
+            Authentication authentication,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        checkPageSize(size);
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        Long userId = userDetails.getId();
+
+        return ResponseEntity.ok(transactionService.searchTransactions(userId, q, page, size));
+    }
+
+    @PostMapping("/search/reindex")
+    public ResponseEntity<Void> reindexTransactions(Authentication authentication) {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        transactionSearchService.reindexUser(userDetails.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            Authentication authentication,
+            @RequestParam(defaultValue = "csv") String format) {
+
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        Long userId = userDetails.getId();
+
+        String exportFormat = format.toLowerCase(Locale.ROOT);
+        MediaType mediaType;
+        if (exportFormat.equals(TransactionExportService.FORMAT_CSV)) {
+            mediaType = new MediaType("text", "csv");
+        } else if (exportFormat.equals(TransactionExportService.FORMAT_NDJSON)) {
+            mediaType = MediaType.APPLICATION_NDJSON;
+        } else {
+            throw new RuntimeException("Unsupported export format: " + format);
+        }
+
+        // Runs on the MVC async executor, so the request thread is released while rows are written.
+        StreamingResponseBody body = out -> transactionExportService.exportTransactions(userId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions." + exportFormat + "\"")
+                .body(body);
+    }
+
+    @GetMapping("/summary")
+    @ConditionalGet
+    @QueryBudget(2)
+    public ResponseEntity<MonthlySummaryDto> getMonthlySummary(
+            Authentication authentication,
+            @RequestParam(required = false) Integer month,
+            @RequestParam(required = false) Integer year) {
+
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        Long userId = userDetails.getId();
+
+        LocalDate today = LocalDate.now();
+        int summaryMonth = month != null ? month : today.getMonthValue();
+        int summaryYear = year != null ? year : today.getYear();
+
+        return ResponseEntity.ok(rollupService.getMonthlySummary(userId, summaryMonth, summaryYear));
+    }
+
     @GetMapping("/{id}")
+    @ConditionalGet
+    @QueryBudget(2)
     public ResponseEntity<TransactionDto> getTransactionById(
             Authentication authentication,
             @PathVariable Long id) {
@@ -67,6 +209,7 @@ public class TransactionController {
     }
 
     @PostMapping
+    @QueryBudget(5)
     public ResponseEntity<TransactionDto> createTransaction(
             Authentication authentication,
             @Valid @RequestBody TransactionDto transactionDto) {
@@ -78,7 +221,36 @@ public class TransactionController {
         return ResponseEntity.ok(createdTransaction);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchResultDto>> processBatch(
+            Authentication authentication,
+            @RequestBody List<BatchOperationDto> operations) {
+
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        Long userId = userDetails.getId();
+
+        List<BatchResultDto> results = transactionService.processBatch(userId, operations);
+        return ResponseEntity.ok(results);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResultDto> importTransactions(
+            Authentication authentication,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) Long incomeCategoryId,
+            @RequestParam(required = false) Long expenseCategoryId) throws IOException {
+
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        Long userId = userDetails.getId();
+
+        ImportResultDto result = transactionImportService.importStatement(
+                userId, file.getInputStream(), format, incomeCategoryId, expenseCategoryId);
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{id}")
+    @QueryBudget(6)
     public ResponseEntity<TransactionDto> updateTransaction(
             Authentication authentication,
             @PathVariable Long id,
@@ -92,6 +264,7 @@ public class TransactionController {
     }
 
     @DeleteMapping("/{id}")
+    @QueryBudget(4)
     public ResponseEntity<Void> deleteTransaction(
             Authentication authentication,
             @PathVariable Long id) {
@@ -102,4 +275,33 @@ public class TransactionController {
         transactionService.deleteTransaction(userId, id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private TransactionFilter toFilter(LocalDate startDate, LocalDate endDate, Long categoryId,
+                                       List<Long> categoryIds, TransactionType type,
+                                       BigDecimal minAmount, BigDecimal maxAmount, String description) {
+        List<Long> categories = new ArrayList<>();
+        if (categoryIds != null) {
+            categories.addAll(categoryIds);
+        }
+        if (categoryId != null && !categories.contains(categoryId)) {
+            categories.add(categoryId);
+        }
+
+        TransactionFilter filter = new TransactionFilter();
+        filter.setStartDate(startDate);
+        filter.setEndDate(endDate);
+        filter.setCategoryIds(categories);
+        filter.setType(type);
+        filter.setMinAmount(minAmount);
+        filter.setMaxAmount(maxAmount);
+        filter.setDescription(description);
+        return filter;
+    }
+
+    // Large pages go to /export, which streams, rather than being built in memory here.
+    private void checkPageSize(int size) {
+        if (size < 1 || size > maxPageSize) {
+            throw new RuntimeException("Page size must be between 1 and " + maxPageSize);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package Finance.Tracker.Finance.Tracker.datagen;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.Collections;
+
+// Buffers rows and writes them as multi-row INSERT ... VALUES (...), (...) statements.
+class BulkInserter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String prefix;
+    private final String rowPlaceholders;
+    private final int columns;
+    private final int rowsPerStatement;
+    private final String fullStatement;
+    private final Object[] values;
+    private int rows;
+    private long written;
+
+    BulkInserter(JdbcTemplate jdbcTemplate, String table, String[] columnNames, int rowsPerStatement) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.prefix = "INSERT INTO " + table + " (" + String.join(", ", columnNames) + ") VALUES ";
+        this.rowPlaceholders = "(" + String.join(", ", Collections.nCopies(columnNames.length, "?")) + ")";
+        this.columns = columnNames.length;
+        this.rowsPerStatement = rowsPerStatement;
+        this.fullStatement = sql(rowsPerStatement);
+        this.values = new Object[columns * rowsPerStatement];
+    }
+
+    void add(Object... row) {
+        System.arraycopy(row, 0, values, rows * columns, columns);
+        if (++rows == rowsPerStatement) {
+            flush();
+        }
+    }
+
+    void flush() {
+        if (rows == 0) {
+            return;
+        }
+        int count = rows * columns;
+        jdbcTemplate.update(rows == rowsPerStatement ? fullStatement : sql(rows), ps -> {
+            for (int i = 0; i < count; i++) {
+                ps.setObject(i + 1, values[i]);
+            }
+        });
+        written += rows;
+        rows = 0;
+    }
+
+    long getWritten() {
+        return written;
+    }
+
+    private String sql(int rowCount) {
+        return prefix + String.join(", ", Collections.nCopies(rowCount, rowPlaceholders));
+    }
+}
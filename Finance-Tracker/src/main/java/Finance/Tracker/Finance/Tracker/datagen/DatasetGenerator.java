@@ -0,0 +1,361 @@
+package Finance.Tracker.Finance.Tracker.datagen;
+
+import Finance.Tracker.Finance.Tracker.dto.TransactionType;
+import Finance.Tracker.Finance.Tracker.service.RollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads a synthetic dataset straight into the users, categories, budgets and transactions
+ * tables with multi-row INSERTs, then rebuilds the monthly rollups for the new users. Enabled
+ * by the "datagen" profile (see application-datagen.properties).
+ *
+ * <p>Transaction counts are skewed: the first {@code datagen.heavy-users} users get
+ * {@code datagen.heavy-user-transactions} rows each, the rest a log-normal count around
+ * {@code datagen.transactions-per-user}. Every month carries a salary, rent and a utility bill;
+ * the remaining rows are everyday spending spread over the user's categories with a
+ * Zipf-like preference. Ids are assigned up front and every (user, month) is generated from
+ * its own random stream, so a given seed, end date and starting database always produce the
+ * same rows, however many loader threads are used.
+ */
+@Component
+@Profile("datagen")
+public class DatasetGenerator implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    private static final String[] DEFAULT_EXPENSE = {"Food", "Transport", "Entertainment", "Shopping", "Bills", "Healthcare"};
+    private static final String[] DEFAULT_INCOME = {"Salary", "Freelance", "Investment", "Other Income"};
+    private static final String[] EXTRA_EXPENSE = {"Groceries", "Travel", "Education", "Gifts", "Subscriptions", "Pets", "Home", "Insurance"};
+    private static final Map<String, String[]> MERCHANTS = Map.of(
+            "Food", new String[]{"Corner Cafe", "Pizza Place", "Sushi Bar", "Bakery", "Burger Joint"},
+            "Transport", new String[]{"City Metro", "Fuel Station", "Taxi", "Parking", "Bike Share"},
+            "Entertainment", new String[]{"Cinema Plaza", "Concert Tickets", "Streaming Service", "Bowling"},
+            "Shopping", new String[]{"Online Store", "Department Store", "Electronics Shop", "Book Shop"},
+            "Bills", new String[]{"Phone Bill", "Internet Provider", "Water Utility"},
+            "Healthcare", new String[]{"Pharmacy", "Dentist", "Clinic Visit"});
+    private static final String[] GENERIC_MERCHANTS = {"Local Shop", "Market", "Card Payment", "Online Order"};
+    private static final int RECURRING_PER_MONTH = 3;
+
+    private static final String[] USER_COLUMNS = {"id", "username", "email", "password", "first_name", "last_name",
+            "token_version", "created_at", "updated_at"};
+    private static final String[] CATEGORY_COLUMNS = {"id", "name", "type", "user_id", "created_at", "updated_at"};
+    private static final String[] BUDGET_COLUMNS = {"id", "user_id", "category_id", "amount", "month", "year",
+            "created_at", "updated_at"};
+    private static final String[] TRANSACTION_COLUMNS = {"id", "user_id", "category_id", "amount", "description",
+            "type", "transaction_date", "created_at", "updated_at"};
+
+    @Value("${datagen.seed:42}")
+    private long seed;
+
+    @Value("${datagen.users:1000}")
+    private int users;
+
+    @Value("${datagen.heavy-users:2}")
+    private int heavyUsers;
+
+    @Value("${datagen.heavy-user-transactions:5000000}")
+    private long heavyUserTransactions;
+
+    @Value("${datagen.transactions-per-user:2000}")
+    private long transactionsPerUser;
+
+    @Value("${datagen.months:24}")
+    private int months;
+
+    @Value("${datagen.end-date:}")
+    private String endDateValue;
+
+    @Value("${datagen.username-prefix:datagen-user-}")
+    private String usernamePrefix;
+
+    @Value("${datagen.password:datagen-password}")
+    private String password;
+
+    @Value("${datagen.rows-per-insert:1000}")
+    private int rowsPerInsert;
+
+    @Value("${datagen.threads:4}")
+    private int threads;
+
+    @Value("${datagen.exit-when-done:true}")
+    private boolean exitWhenDone;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private RollupService rollupService;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private LocalDate endDate;
+    private YearMonth firstMonth;
+    private final AtomicLong transactionRows = new AtomicLong();
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        endDate = endDateValue.isBlank() ? LocalDate.now() : LocalDate.parse(endDateValue);
+        firstMonth = YearMonth.from(endDate).minusMonths(months - 1);
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE username = ?",
+                Integer.class, usernamePrefix + 0);
+        if (existing != null && existing > 0) {
+            throw new RuntimeException("Users named " + usernamePrefix + "* already exist; drop them or change datagen.username-prefix");
+        }
+
+        long started = System.nanoTime();
+        List<UserPlan> plans = plan();
+        long rows = insertUsersCategoriesAndBudgets(plans);
+        insertTransactions(plans);
+        rows += transactionRows.get();
+        double loadSeconds = (System.nanoTime() - started) / 1e9;
+        log.info("Loaded {} users, {} transactions ({} rows) in {}s, {} rows/s", plans.size(), transactionRows.get(),
+                rows, String.format("%.1f", loadSeconds), Math.round(rows / loadSeconds));
+
+        long rollupStarted = System.nanoTime();
+        for (UserPlan plan : plans) {
+            rollupService.rebuildForUser(plan.userId);
+        }
+        log.info("Rebuilt monthly rollups in {}s", String.format("%.1f", (System.nanoTime() - rollupStarted) / 1e9));
+
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    // Decides every user's categories, amounts and per-month row counts, and hands out ids.
+    private List<UserPlan> plan() {
+        long nextUserId = maxId("users") + 1;
+        long nextCategoryId = maxId("categories") + 1;
+        long nextTransactionId = maxId("transactions") + 1;
+
+        List<UserPlan> plans = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            SplittableRandom random = new SplittableRandom(mix(seed, i, 0));
+            UserPlan plan = new UserPlan(i, nextUserId++);
+
+            List<String> expense = new ArrayList<>(List.of(DEFAULT_EXPENSE));
+            List<String> extras = new ArrayList<>(List.of(EXTRA_EXPENSE));
+            for (int e = random.nextInt(5); e > 0; e--) {
+                expense.add(extras.remove(random.nextInt(extras.size())));
+            }
+            for (String name : expense) {
+                plan.categories.add(new CategoryPlan(nextCategoryId++, name, TransactionType.EXPENSE));
+            }
+            for (String name : DEFAULT_INCOME) {
+                plan.categories.add(new CategoryPlan(nextCategoryId++, name, TransactionType.INCOME));
+            }
+
+            // Spending goes to categories in a random order of preference, weight 1/rank.
+            plan.expenseCategories = shuffled(plan.categories.subList(0, expense.size()), random);
+            plan.expenseWeights = new double[expense.size()];
+            double total = 0;
+            for (int r = 0; r < expense.size(); r++) {
+                total += 1.0 / (r + 1);
+                plan.expenseWeights[r] = total;
+            }
+            for (int r = 0; r < expense.size(); r++) {
+                plan.expenseWeights[r] /= total;
+            }
+            plan.salary = BigDecimal.valueOf(random.nextLong(250_000, 900_000), 2);
+            plan.rent = BigDecimal.valueOf(random.nextLong(60_000, 250_000), 2);
+
+            long transactions = i < heavyUsers ? heavyUserTransactions
+                    : Math.min(heavyUserTransactions, Math.round(transactionsPerUser * Math.exp(gaussian(random))));
+            long variable = Math.max(0, transactions - (long) RECURRING_PER_MONTH * months);
+            plan.firstTransactionIds = new long[months];
+            plan.variablePerMonth = new long[months];
+            for (int m = 0; m < months; m++) {
+                plan.variablePerMonth[m] = variable / months + (m < variable % months ? 1 : 0);
+                plan.firstTransactionIds[m] = nextTransactionId;
+                nextTransactionId += RECURRING_PER_MONTH + plan.variablePerMonth[m];
+            }
+            plans.add(plan);
+        }
+        return plans;
+    }
+
+    private long insertUsersCategoriesAndBudgets(List<UserPlan> plans) {
+        String passwordHash = passwordEncoder.encode(password);
+        Timestamp createdAt = Timestamp.valueOf(firstMonth.atDay(1).atStartOfDay());
+        BulkInserter userRows = new BulkInserter(jdbcTemplate, "users", USER_COLUMNS, rowsPerInsert);
+        BulkInserter categoryRows = new BulkInserter(jdbcTemplate, "categories", CATEGORY_COLUMNS, rowsPerInsert);
+        BulkInserter budgetRows = new BulkInserter(jdbcTemplate, "budgets", BUDGET_COLUMNS, rowsPerInsert);
+
+        for (UserPlan plan : plans) {
+            String username = usernamePrefix + plan.index;
+            userRows.add(plan.userId, username, username + "@datagen.local", passwordHash, "Datagen",
+                    "User " + plan.index, 0, createdAt, createdAt);
+        }
+        userRows.flush();
+        for (UserPlan plan : plans) {
+            for (CategoryPlan category : plan.categories) {
+                categoryRows.add(category.id, category.name, category.type.name(), plan.userId, createdAt, createdAt);
+            }
+        }
+        categoryRows.flush();
+
+        long nextBudgetId = maxId("budgets") + 1;
+        for (UserPlan plan : plans) {
+            SplittableRandom random = new SplittableRandom(mix(seed, plan.index, -1));
+            for (int m = 0; m < Math.min(3, months); m++) {
+                YearMonth month = YearMonth.from(endDate).minusMonths(m);
+                for (int c = 0; c < Math.min(4, plan.expenseCategories.size()); c++) {
+                    budgetRows.add(nextBudgetId++, plan.userId, plan.expenseCategories.get(c).id,
+                            BigDecimal.valueOf(random.nextLong(10_000, 150_000), 2), month.getMonthValue(),
+                            month.getYear(), createdAt, createdAt);
+                }
+            }
+        }
+        budgetRows.flush();
+        return userRows.getWritten() + categoryRows.getWritten() + budgetRows.getWritten();
+    }
+
+    private void insertTransactions(List<UserPlan> plans) throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> units = new ArrayList<>();
+            for (UserPlan plan : plans) {
+                for (int m = 0; m < months; m++) {
+                    int month = m;
+                    units.add(executor.submit(() -> insertMonth(plan, month)));
+                }
+            }
+            for (Future<?> unit : units) {
+                unit.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void insertMonth(UserPlan plan, int monthIndex) {
+        SplittableRandom random = new SplittableRandom(mix(seed, plan.index, monthIndex + 1));
+        YearMonth month = firstMonth.plusMonths(monthIndex);
+        int days = month.equals(YearMonth.from(endDate)) ? endDate.getDayOfMonth() : month.lengthOfMonth();
+        BulkInserter rows = new BulkInserter(jdbcTemplate, "transactions", TRANSACTION_COLUMNS, rowsPerInsert);
+        long id = plan.firstTransactionIds[monthIndex];
+
+        CategoryPlan salary = plan.category("Salary");
+        CategoryPlan bills = plan.category("Bills");
+        addTransaction(rows, id++, plan, salary, plan.salary, "Monthly salary", month.atDay(Math.min(25, days)));
+        addTransaction(rows, id++, plan, bills, plan.rent, "Rent", month.atDay(1));
+        addTransaction(rows, id++, plan, bills, BigDecimal.valueOf(random.nextLong(4_000, 20_000), 2),
+                "Electric Company", month.atDay(Math.min(15, days)));
+
+        for (long i = 0; i < plan.variablePerMonth[monthIndex]; i++) {
+            LocalDate date = month.atDay(1 + random.nextInt(days));
+            if (random.nextInt(20) == 0) {
+                CategoryPlan category = plan.categories.get(plan.categories.size() - 1 - random.nextInt(3));
+                addTransaction(rows, id++, plan, category, BigDecimal.valueOf(random.nextLong(5_000, 150_000), 2),
+                        category.name + " payment", date);
+                continue;
+            }
+            CategoryPlan category = plan.pickExpenseCategory(random.nextDouble());
+            // Log-normal around 25.00, the usual shape of card spending.
+            long cents = Math.max(50, Math.min(500_000, Math.round(2_500 * Math.exp(0.9 * gaussian(random)))));
+            String[] merchants = MERCHANTS.getOrDefault(category.name, GENERIC_MERCHANTS);
+            String description = random.nextInt(20) == 0 ? null : merchants[random.nextInt(merchants.length)];
+            addTransaction(rows, id++, plan, category, BigDecimal.valueOf(cents, 2), description, date);
+        }
+        rows.flush();
+
+        long total = transactionRows.addAndGet(rows.getWritten());
+        if (total / 1_000_000 != (total - rows.getWritten()) / 1_000_000) {
+            log.info("Inserted {} transactions", total);
+        }
+    }
+
+    private void addTransaction(BulkInserter rows, long id, UserPlan plan, CategoryPlan category, BigDecimal amount,
+                                String description, LocalDate date) {
+        Timestamp createdAt = Timestamp.valueOf(date.atTime(12, 0));
+        rows.add(id, plan.userId, category.id, amount, description, category.type.name(), Date.valueOf(date),
+                createdAt, createdAt);
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    private static List<CategoryPlan> shuffled(List<CategoryPlan> categories, SplittableRandom random) {
+        List<CategoryPlan> result = new ArrayList<>(categories);
+        for (int i = result.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            result.set(j, result.set(i, result.get(j)));
+        }
+        return result;
+    }
+
+    // Box-Muller; SplittableRandom has no nextGaussian of its own.
+    private static double gaussian(SplittableRandom random) {
+        return Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private static long mix(long seed, long user, long stream) {
+        long h = seed * 0x9E3779B97F4A7C15L + user * 0xBF58476D1CE4E5B9L + stream * 0x94D049BB133111EBL;
+        h ^= h >>> 31;
+        return h * 0xD6E8FEB86659FD93L;
+    }
+
+    private record CategoryPlan(long id, String name, TransactionType type) {
+    }
+
+    private static class UserPlan {
+        private final int index;
+        private final long userId;
+        private final List<CategoryPlan> categories = new ArrayList<>();
+        private List<CategoryPlan> expenseCategories;
+        private double[] expenseWeights;
+        private BigDecimal salary;
+        private BigDecimal rent;
+        private long[] firstTransactionIds;
+        private long[] variablePerMonth;
+
+        UserPlan(int index, long userId) {
+            this.index = index;
+            this.userId = userId;
+        }
+
+        CategoryPlan category(String name) {
+            return categories.stream().filter(c -> c.name.equals(name)).findFirst().orElseThrow();
+        }
+
+        CategoryPlan pickExpenseCategory(double roll) {
+            for (int i = 0; i < expenseWeights.length - 1; i++) {
+                if (roll < expenseWeights[i]) {
+                    return expenseCategories.get(i);
+                }
+            }
+            return expenseCategories.get(expenseWeights.length - 1);
+        }
+    }
+}
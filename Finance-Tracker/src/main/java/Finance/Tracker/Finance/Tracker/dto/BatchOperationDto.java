@@ -0,0 +1,25 @@
+package Finance.Tracker.Finance.Tracker.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public class BatchOperationDto {
+    @NotNull(message = "Operation is required")
+    private BatchOperationType op;
+
+    // Target transaction for UPDATE and DELETE
+    private Long id;
+
+    // Payload for CREATE and UPDATE
+    private TransactionDto transaction;
+
+    public BatchOperationDto() {}
+
+    public BatchOperationType getOp() { return op; }
+    public void setOp(BatchOperationType op) { this.op = op; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public TransactionDto getTransaction() { return transaction; }
+    public void setTransaction(TransactionDto transaction) { this.transaction = transaction; }
+}
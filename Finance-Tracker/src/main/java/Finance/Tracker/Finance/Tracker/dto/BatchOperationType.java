@@ -0,0 +1,5 @@
+package Finance.Tracker.Finance.Tracker.dto;
+
+public enum BatchOperationType {
+    CREATE, UPDATE, DELETE
+}
@@ -0,0 +1,40 @@
+package Finance.Tracker.Finance.Tracker.dto;
+
+public class BatchResultDto {
+    private int index;
+    private BatchOperationType op;
+    private int status;
+    private Long id;
+    private String message;
+    private TransactionDto transaction;
+
+    public BatchResultDto() {}
+
+    public BatchResultDto(int index, BatchOperationType op, int status, Long id, String message,
+                          TransactionDto transaction) {
+        this.index = index;
+        this.op = op;
+        this.status = status;
+        this.id = id;
+        this.message = message;
+        this.transaction = transaction;
+    }
+
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public BatchOperationType getOp() { return op; }
+    public void setOp(BatchOperationType op) { this.op = op; }
+
+    public int getStatus() { return status; }
+    public void setStatus(int status) { this.status = status; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public TransactionDto getTransaction() { return transaction; }
+    public void setTransaction(TransactionDto transaction) { this.transaction = transaction; }
+}
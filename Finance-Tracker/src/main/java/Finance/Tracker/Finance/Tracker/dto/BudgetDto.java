@@ -2,10 +2,10 @@ package Finance.Tracker.Finance.Tracker.dto;
 
 
 
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Positive;
 import java.math.BigDecimal;
 
 public class BudgetDto {
@@ -17,7 +17,7 @@ public class BudgetDto {
     private String categoryName;
 
     @NotNull(message = "Amount is required")
-    @Positive(message = "Amount must be positive")
+    @DecimalMin(value = "0.01", message = "Amount must be at least 0.01")
     private BigDecimal amount;
 
     @NotNull(message = "Month is required")
@@ -0,0 +1,20 @@
+package Finance.Tracker.Finance.Tracker.dto;
+
+import java.math.BigDecimal;
+
+public class BudgetStatusDto extends BudgetDto {
+    private BigDecimal spent;
+    private BigDecimal remaining;
+    private BigDecimal percentUsed;
+
+    public BudgetStatusDto() {}
+
+    public BigDecimal getSpent() { return spent; }
+    public void setSpent(BigDecimal spent) { this.spent = spent; }
+
+    public BigDecimal getRemaining() { return remaining; }
+    public void setRemaining(BigDecimal remaining) { this.remaining = remaining; }
+
+    public BigDecimal getPercentUsed() { return percentUsed; }
+    public void setPercentUsed(BigDecimal percentUsed) { this.percentUsed = percentUsed; }
+}
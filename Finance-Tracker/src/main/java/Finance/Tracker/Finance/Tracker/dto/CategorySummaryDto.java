@@ -0,0 +1,37 @@
+package Finance.Tracker.Finance.Tracker.dto;
+
+import java.math.BigDecimal;
+
+public class CategorySummaryDto {
+    private Long categoryId;
+    private String categoryName;
+    private TransactionType type;
+    private BigDecimal total;
+    private Long transactionCount;
+
+    public CategorySummaryDto() {}
+
+    public CategorySummaryDto(Long categoryId, String categoryName, TransactionType type,
+                              BigDecimal total, Long transactionCount) {
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.type = type;
+        this.total = total;
+        this.transactionCount = transactionCount;
+    }
+
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+
+    public String getCategoryName() { return categoryName; }
+    public void setCategoryName(String categoryName) { this.categoryName = categoryName; }
+
+    public TransactionType getType() { return type; }
+    public void setType(TransactionType type) { this.type = type; }
+
+    public BigDecimal getTotal() { return total; }
+    public void setTotal(BigDecimal total) { this.total = total; }
+
+    public Long getTransactionCount() { return transactionCount; }
+    public void setTransactionCount(Long transactionCount) { this.transactionCount = transactionCount; }
+}
@@ -0,0 +1,43 @@
+package Finance.Tracker.Finance.Tracker.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportResultDto {
+    private int totalRows;
+    private int importedRows;
+    private int failedRows;
+    private List<RowError> errors = new ArrayList<>();
+
+    public ImportResultDto() {}
+
+    public int getTotalRows() { return totalRows; }
+    public void setTotalRows(int totalRows) { this.totalRows = totalRows; }
+
+    public int getImportedRows() { return importedRows; }
+    public void setImportedRows(int importedRows) { this.importedRows = importedRows; }
+
+    public int getFailedRows() { return failedRows; }
+    public void setFailedRows(int failedRows) { this.failedRows = failedRows; }
+
+    public List<RowError> getErrors() { return errors; }
+    public void setErrors(List<RowError> errors) { this.errors = errors; }
+
+    public static class RowError {
+        private int row;
+        private String message;
+
+        public RowError() {}
+
+        public RowError(int row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+
+        public int getRow() { return row; }
+        public void setRow(int row) { this.row = row; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
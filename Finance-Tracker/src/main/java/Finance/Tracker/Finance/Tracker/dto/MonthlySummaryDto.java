@@ -0,0 +1,37 @@
+package Finance.Tracker.Finance.Tracker.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class MonthlySummaryDto {
+    private Integer month;
+    private Integer year;
+    private BigDecimal totalIncome;
+    private BigDecimal totalExpenses;
+    private BigDecimal balance;
+    private Long transactionCount;
+    private List<CategorySummaryDto> categories;
+
+    public MonthlySummaryDto() {}
+
+    public Integer getMonth() { return month; }
+    public void setMonth(Integer month) { this.month = month; }
+
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+
+    public BigDecimal getTotalIncome() { return totalIncome; }
+    public void setTotalIncome(BigDecimal totalIncome) { this.totalIncome = totalIncome; }
+
+    public BigDecimal getTotalExpenses() { return totalExpenses; }
+    public void setTotalExpenses(BigDecimal totalExpenses) { this.totalExpenses = totalExpenses; }
+
+    public BigDecimal getBalance() { return balance; }
+    public void setBalance(BigDecimal balance) { this.balance = balance; }
+
+    public Long getTransactionCount() { return transactionCount; }
+    public void setTransactionCount(Long transactionCount) { this.transactionCount = transactionCount; }
+
+    public List<CategorySummaryDto> getCategories() { return categories; }
+    public void setCategories(List<CategorySummaryDto> categories) { this.categories = categories; }
+}
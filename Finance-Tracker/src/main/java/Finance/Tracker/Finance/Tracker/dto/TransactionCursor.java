@@ -0,0 +1,40 @@
+package Finance.Tracker.Finance.Tracker.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Position in the (transactionDate DESC, id DESC) ordering, exchanged with clients as an
+ * opaque URL-safe token.
+ */
+public class TransactionCursor {
+    private final LocalDate transactionDate;
+    private final Long id;
+
+    public TransactionCursor(LocalDate transactionDate, Long id) {
+        this.transactionDate = transactionDate;
+        this.id = id;
+    }
+
+    public LocalDate getTransactionDate() { return transactionDate; }
+
+    public Long getId() { return id; }
+
+    public String encode() {
+        String raw = transactionDate + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new TransactionCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+}
@@ -28,6 +28,17 @@ public class TransactionDto {
     private LocalDate transactionDate;
     public TransactionDto() {}
 
+    public TransactionDto(Long id, BigDecimal amount, String description, TransactionType type,
+                          Long categoryId, String categoryName, LocalDate transactionDate) {
+        this.id = id;
+        this.amount = amount;
+        this.description = description;
+        this.type = type;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.transactionDate = transactionDate;
+    }
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
@@ -0,0 +1,45 @@
+package Finance.Tracker.Finance.Tracker.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public class TransactionFilter {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<Long> categoryIds;
+    private TransactionType type;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    private String description;
+
+    public TransactionFilter() {}
+
+    public boolean isEmpty() {
+        return startDate == null && endDate == null
+                && (categoryIds == null || categoryIds.isEmpty())
+                && type == null && minAmount == null && maxAmount == null
+                && (description == null || description.isBlank());
+    }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public List<Long> getCategoryIds() { return categoryIds; }
+    public void setCategoryIds(List<Long> categoryIds) { this.categoryIds = categoryIds; }
+
+    public TransactionType getType() { return type; }
+    public void setType(TransactionType type) { this.type = type; }
+
+    public BigDecimal getMinAmount() { return minAmount; }
+    public void setMinAmount(BigDecimal minAmount) { this.minAmount = minAmount; }
+
+    public BigDecimal getMaxAmount() { return maxAmount; }
+    public void setMaxAmount(BigDecimal maxAmount) { this.maxAmount = maxAmount; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+}
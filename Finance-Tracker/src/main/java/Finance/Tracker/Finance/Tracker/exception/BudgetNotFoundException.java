@@ -0,0 +1,7 @@
+package Finance.Tracker.Finance.Tracker.exception;
+
+public class BudgetNotFoundException extends RuntimeException {
+    public BudgetNotFoundException(String message) {
+        super(message);
+    }
+}
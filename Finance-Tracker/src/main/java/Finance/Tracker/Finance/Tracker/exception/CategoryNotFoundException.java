@@ -0,0 +1,7 @@
+package Finance.Tracker.Finance.Tracker.exception;
+
+public class CategoryNotFoundException extends RuntimeException {
+    public CategoryNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package Finance.Tracker.Finance.Tracker.exception;
+
+public class QueryBudgetExceededException extends RuntimeException {
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
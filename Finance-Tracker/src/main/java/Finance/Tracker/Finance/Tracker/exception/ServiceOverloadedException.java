@@ -0,0 +1,7 @@
+package Finance.Tracker.Finance.Tracker.exception;
+
+public class ServiceOverloadedException extends RuntimeException {
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
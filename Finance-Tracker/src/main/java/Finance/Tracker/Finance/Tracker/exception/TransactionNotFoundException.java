@@ -0,0 +1,7 @@
+package Finance.Tracker.Finance.Tracker.exception;
+
+public class TransactionNotFoundException extends RuntimeException {
+    public TransactionNotFoundException(String message) {
+        super(message);
+    }
+}
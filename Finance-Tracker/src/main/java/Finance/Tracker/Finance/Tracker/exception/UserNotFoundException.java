@@ -8,24 +8,6 @@ public class UserNotFoundException extends RuntimeException {
     }
 }
 
-class CategoryNotFoundException extends RuntimeException {
-    public CategoryNotFoundException(String message) {
-        super(message);
-    }
-}
-
-class TransactionNotFoundException extends RuntimeException {
-    public TransactionNotFoundException(String message) {
-        super(message);
-    }
-}
-
-class BudgetNotFoundException extends RuntimeException {
-    public BudgetNotFoundException(String message) {
-        super(message);
-    }
-}
-
 class UnauthorizedException extends RuntimeException {
     public UnauthorizedException(String message) {
         super(message);
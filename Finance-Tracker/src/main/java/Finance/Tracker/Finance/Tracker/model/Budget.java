@@ -5,7 +5,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "budgets")
+@Table(name = "budgets", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_budgets_user_period_category",
+                columnNames = {"user_id", "year", "month", "category_id"})
+})
 public class Budget {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,6 +26,14 @@ public class User {
     @Column(name = "last_name", nullable = false)
     private String lastName;
 
+    // Bumped to invalidate every JWT issued to this user before the change.
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion;
+
+    // Written only through UserRepository.incrementDataVersion, so saving a User never rolls it back.
+    @Column(name = "data_version", nullable = false, insertable = false, updatable = false)
+    private Long dataVersion;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -39,6 +47,7 @@ public class User {
     private List<Category> categories;
 
     public User() {
+        this.tokenVersion = 0;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -70,6 +79,11 @@ public class User {
     public String getLastName() { return lastName; }
     public void setLastName(String lastName) { this.lastName = lastName; }
 
+    public Integer getTokenVersion() { return tokenVersion; }
+    public void setTokenVersion(Integer tokenVersion) { this.tokenVersion = tokenVersion; }
+
+    public Long getDataVersion() { return dataVersion; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
@@ -2,15 +2,37 @@ package Finance.Tracker.Finance.Tracker.repository;
 
 
 import Finance.Tracker.Finance.Tracker.model.Budget;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
-    List<Budget> findByUserIdAndMonthAndYear(Long userId, Integer month, Integer year);
+    @EntityGraph(attributePaths = "category")
+    @Query("SELECT b FROM Budget b WHERE b.user.id = :userId AND b.month = :month AND b.year = :year")
+    List<Budget> findByUserIdAndMonthAndYear(
+            @Param("userId") Long userId, @Param("month") Integer month, @Param("year") Integer year);
+
+    @Query("SELECT b FROM Budget b WHERE b.user.id = :userId AND b.category.id = :categoryId " +
+            "AND b.month = :month AND b.year = :year")
     Optional<Budget> findByUserIdAndCategoryIdAndMonthAndYear(
-            Long userId, Long categoryId, Integer month, Integer year);
+            @Param("userId") Long userId, @Param("categoryId") Long categoryId,
+            @Param("month") Integer month, @Param("year") Integer year);
+
+    @EntityGraph(attributePaths = "category")
     List<Budget> findByUserId(Long userId);
+
+    @EntityGraph(attributePaths = "category")
+    Optional<Budget> findByIdAndUserId(Long id, Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Budget b WHERE b.id = :id AND b.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
 }
\ No newline at end of file
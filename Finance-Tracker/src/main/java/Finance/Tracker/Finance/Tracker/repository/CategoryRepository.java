@@ -4,12 +4,29 @@ package Finance.Tracker.Finance.Tracker.repository;
 import Finance.Tracker.Finance.Tracker.dto.TransactionType;
 import Finance.Tracker.Finance.Tracker.model.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface CategoryRepository extends JpaRepository<Category, Long> {
+public interface CategoryRepository extends JpaRepository<Category, Long>, CategoryRepositoryCustom {
     List<Category> findByUserIdOrderByName(Long userId);
     List<Category> findByUserIdAndType(Long userId, TransactionType type);
     boolean existsByNameAndUserId(String name, Long userId);
+
+    @Query("SELECT c.name FROM Category c WHERE c.user.id = :userId")
+    List<String> findNamesByUserId(@Param("userId") Long userId);
+
+    List<Category> findByIdInAndUserId(Collection<Long> ids, Long userId);
+    Optional<Category> findByIdAndUserId(Long id, Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Category c WHERE c.id = :id AND c.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
 }
\ No newline at end of file
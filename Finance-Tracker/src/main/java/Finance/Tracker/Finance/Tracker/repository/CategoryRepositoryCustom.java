@@ -0,0 +1,9 @@
+package Finance.Tracker.Finance.Tracker.repository;
+
+import Finance.Tracker.Finance.Tracker.model.Category;
+import java.util.List;
+
+public interface CategoryRepositoryCustom {
+    // Inserts through a single JDBC batch; the entities' ids are not populated.
+    void insertAll(List<Category> categories);
+}
@@ -0,0 +1,32 @@
+package Finance.Tracker.Finance.Tracker.repository;
+
+import Finance.Tracker.Finance.Tracker.model.Category;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.sql.Timestamp;
+import java.util.List;
+
+// Category ids use IDENTITY, which stops Hibernate from batching inserts, so bulk inserts go through JDBC.
+public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO categories " +
+            "(name, type, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<Category> categories) {
+        if (categories.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, categories, categories.size(), (ps, category) -> {
+            ps.setString(1, category.getName());
+            ps.setString(2, category.getType().name());
+            ps.setLong(3, category.getUser().getId());
+            ps.setTimestamp(4, Timestamp.valueOf(category.getCreatedAt()));
+            ps.setTimestamp(5, Timestamp.valueOf(category.getUpdatedAt()));
+        });
+    }
+}
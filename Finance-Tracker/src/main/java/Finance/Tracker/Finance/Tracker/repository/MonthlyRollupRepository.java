@@ -0,0 +1,66 @@
+package Finance.Tracker.Finance.Tracker.repository;
+
+import Finance.Tracker.Finance.Tracker.dto.CategorySummaryDto;
+import Finance.Tracker.Finance.Tracker.dto.TransactionType;
+import Finance.Tracker.Finance.Tracker.model.MonthlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, Long>, MonthlyRollupRepositoryCustom {
+
+    @Query("SELECT new Finance.Tracker.Finance.Tracker.dto.CategorySummaryDto(" +
+            "r.categoryId, c.name, r.type, r.totalAmount, r.transactionCount) " +
+            "FROM MonthlyRollup r, Category c " +
+            "WHERE c.id = r.categoryId AND r.userId = :userId " +
+            "AND r.year = :year AND r.month = :month AND r.transactionCount > 0 " +
+            "ORDER BY r.totalAmount DESC")
+    List<CategorySummaryDto> findCategorySummaries(
+            @Param("userId") Long userId,
+            @Param("year") Integer year,
+            @Param("month") Integer month);
+
+    @Query("SELECT r.categoryId, SUM(r.totalAmount) FROM MonthlyRollup r " +
+            "WHERE r.userId = :userId AND r.year = :year AND r.month = :month AND r.type = :type " +
+            "GROUP BY r.categoryId")
+    List<Object[]> sumByCategory(
+            @Param("userId") Long userId,
+            @Param("year") Integer year,
+            @Param("month") Integer month,
+            @Param("type") TransactionType type);
+
+    @Modifying
+    @Query(value = "INSERT INTO monthly_rollups " +
+            "(user_id, category_id, year, month, type, total_amount, transaction_count) " +
+            "VALUES (:userId, :categoryId, :year, :month, :type, :amount, :count) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_amount = total_amount + VALUES(total_amount), " +
+            "transaction_count = transaction_count + VALUES(transaction_count)",
+            nativeQuery = true)
+    void applyDelta(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("year") Integer year,
+            @Param("month") Integer month,
+            @Param("type") String type,
+            @Param("amount") BigDecimal amount,
+            @Param("count") long count);
+
+    @Modifying
+    @Query(value = "DELETE FROM monthly_rollups WHERE user_id = :userId", nativeQuery = true)
+    void deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO monthly_rollups " +
+            "(user_id, category_id, year, month, type, total_amount, transaction_count) " +
+            "SELECT user_id, category_id, YEAR(transaction_date), MONTH(transaction_date), type, " +
+            "SUM(amount), COUNT(*) FROM transactions WHERE user_id = :userId " +
+            "GROUP BY user_id, category_id, YEAR(transaction_date), MONTH(transaction_date), type",
+            nativeQuery = true)
+    void rebuildForUser(@Param("userId") Long userId);
+}
@@ -0,0 +1,9 @@
+package Finance.Tracker.Finance.Tracker.repository;
+
+import Finance.Tracker.Finance.Tracker.model.MonthlyRollup;
+import java.util.Collection;
+
+public interface MonthlyRollupRepositoryCustom {
+    // Adds each row's totalAmount and transactionCount to its bucket in one JDBC batch.
+    void applyDeltas(Collection<MonthlyRollup> deltas);
+}
@@ -0,0 +1,37 @@
+package Finance.Tracker.Finance.Tracker.repository;
+
+import Finance.Tracker.Finance.Tracker.model.MonthlyRollup;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.ArrayList;
+import java.util.Collection;
+
+public class MonthlyRollupRepositoryCustomImpl implements MonthlyRollupRepositoryCustom {
+
+    private static final String UPSERT_SQL = "INSERT INTO monthly_rollups " +
+            "(user_id, category_id, year, month, type, total_amount, transaction_count) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_amount = total_amount + VALUES(total_amount), " +
+            "transaction_count = transaction_count + VALUES(transaction_count)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void applyDeltas(Collection<MonthlyRollup> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new ArrayList<>(deltas), deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.getUserId());
+            ps.setLong(2, delta.getCategoryId());
+            ps.setInt(3, delta.getYear());
+            ps.setInt(4, delta.getMonth());
+            ps.setString(5, delta.getType().name());
+            ps.setBigDecimal(6, delta.getTotalAmount());
+            ps.setLong(7, delta.getTransactionCount());
+        });
+    }
+}
@@ -1,38 +1,67 @@
 package Finance.Tracker.Finance.Tracker.repository;
 
-
 import Finance.Tracker.Finance.Tracker.dto.TransactionType;
 import Finance.Tracker.Finance.Tracker.model.Transaction;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
-    Page<Transaction> findByUserIdOrderByTransactionDateDesc(Long userId, Pageable pageable);
+public interface TransactionRepository extends JpaRepository<Transaction, Long>,
+        JpaSpecificationExecutor<Transaction>, TransactionRepositoryCustom {
+    // Derived queries navigate user.id through a join on users; t.user.id reads the user_id
+    // column, so the filter and ORDER BY line up with idx_transactions_user_date.
+    @EntityGraph(attributePaths = "category")
+    @Query(value = "SELECT t FROM Transaction t WHERE t.user.id = :userId ORDER BY t.transactionDate DESC",
+            countQuery = "SELECT COUNT(t) FROM Transaction t WHERE t.user.id = :userId")
+    Page<Transaction> findByUserIdOrderByTransactionDateDesc(@Param("userId") Long userId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "category")
     Page<Transaction> findByUserIdAndTransactionDateBetweenOrderByTransactionDateDesc(
             Long userId, LocalDate startDate, LocalDate endDate, Pageable pageable);
 
     List<Transaction> findByUserIdAndCategoryId(Long userId, Long categoryId);
 
+    @Override
+    @EntityGraph(attributePaths = "category")
+    Page<Transaction> findAll(Specification<Transaction> spec, Pageable pageable);
+
+    @EntityGraph(attributePaths = "category")
+    Optional<Transaction> findByIdAndUserId(Long id, Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Transaction t WHERE t.id = :id AND t.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @EntityGraph(attributePaths = "category")
+    List<Transaction> findByIdInAndUserId(Collection<Long> ids, Long userId);
+
+    @EntityGraph(attributePaths = "category")
+    Slice<Transaction> findByUserIdOrderByTransactionDateDescIdDesc(Long userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "category")
     @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId " +
-            "AND (:startDate IS NULL OR t.transactionDate >= :startDate) " +
-            "AND (:endDate IS NULL OR t.transactionDate <= :endDate) " +
-            "AND (:categoryId IS NULL OR t.category.id = :categoryId) " +
-            "AND (:type IS NULL OR t.type = :type) " +
-            "ORDER BY t.transactionDate DESC")
-    Page<Transaction> findTransactionsWithFilters(
+            "AND (t.transactionDate < :cursorDate " +
+            "OR (t.transactionDate = :cursorDate AND t.id < :cursorId)) " +
+            "ORDER BY t.transactionDate DESC, t.id DESC")
+    Slice<Transaction> findByUserIdAfterCursor(
             @Param("userId") Long userId,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate,
-            @Param("categoryId") Long categoryId,
-            @Param("type") TransactionType type,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
             Pageable pageable);
-}
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+package Finance.Tracker.Finance.Tracker.repository;
+
+import Finance.Tracker.Finance.Tracker.dto.TransactionDto;
+import Finance.Tracker.Finance.Tracker.model.Transaction;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TransactionRepositoryCustom {
+    // Inserts through a single JDBC batch and assigns the generated ids back to the entities.
+    void insertAll(List<Transaction> transactions);
+
+    // Forward-only read for exports and reindexing: DTO rows (nothing enters the persistence
+    // context), category name from a join. Close the stream, inside a transaction.
+    Stream<TransactionDto> streamByUserId(Long userId);
+}
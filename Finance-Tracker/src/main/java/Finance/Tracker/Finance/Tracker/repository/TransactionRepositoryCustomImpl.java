@@ -0,0 +1,96 @@
+package Finance.Tracker.Finance.Tracker.repository;
+
+import Finance.Tracker.Finance.Tracker.dto.TransactionDto;
+import Finance.Tracker.Finance.Tracker.model.Transaction;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// Transaction ids use IDENTITY, which stops Hibernate from batching inserts, so bulk inserts go through JDBC.
+public class TransactionRepositoryCustomImpl implements TransactionRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO transactions " +
+            "(user_id, category_id, amount, description, type, transaction_date, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String STREAM_JPQL = "SELECT new Finance.Tracker.Finance.Tracker.dto.TransactionDto(" +
+            "t.id, t.amount, t.description, t.type, c.id, c.name, t.transactionDate) " +
+            "FROM Transaction t JOIN t.category c WHERE t.user.id = :userId " +
+            "ORDER BY t.transactionDate DESC, t.id DESC";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<TransactionDto> streamByUserId(Long userId) {
+        return entityManager.createQuery(STREAM_JPQL, TransactionDto.class)
+                .setParameter("userId", userId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, streamingFetchSize())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    // Connector/J reads the whole result into memory unless the fetch size is Integer.MIN_VALUE,
+    // which streams rows off the socket; that ties up the connection until the stream is closed,
+    // so it is used for this query only. Other drivers take an ordinary fetch size.
+    private int streamingFetchSize() {
+        SessionFactoryImplementor sessionFactory =
+                entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        return sessionFactory.getJdbcServices().getDialect() instanceof MySQLDialect ? Integer.MIN_VALUE : 1000;
+    }
+
+    @Override
+    public void insertAll(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Transaction transaction = transactions.get(i);
+                        ps.setLong(1, transaction.getUser().getId());
+                        ps.setLong(2, transaction.getCategory().getId());
+                        ps.setBigDecimal(3, transaction.getAmount());
+                        ps.setString(4, transaction.getDescription());
+                        ps.setString(5, transaction.getType().name());
+                        ps.setDate(6, Date.valueOf(transaction.getTransactionDate()));
+                        ps.setTimestamp(7, Timestamp.valueOf(transaction.getCreatedAt()));
+                        ps.setTimestamp(8, Timestamp.valueOf(transaction.getUpdatedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return transactions.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < transactions.size() && i < keys.size(); i++) {
+            Number id = (Number) keys.get(i).values().iterator().next();
+            transactions.get(i).setId(id.longValue());
+        }
+    }
+}
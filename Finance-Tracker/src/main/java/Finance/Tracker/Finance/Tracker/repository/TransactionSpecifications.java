@@ -0,0 +1,72 @@
+package Finance.Tracker.Finance.Tracker.repository;
+
+import Finance.Tracker.Finance.Tracker.dto.TransactionCursor;
+import Finance.Tracker.Finance.Tracker.dto.TransactionFilter;
+import Finance.Tracker.Finance.Tracker.model.Transaction;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Builds transaction searches that contain only the predicates the caller supplied, so the
+ * database can plan each combination on the (user_id, transaction_date) index.
+ */
+public final class TransactionSpecifications {
+
+    // Matches the index order; id breaks ties between transactions on the same date.
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "transactionDate")
+            .and(Sort.by(Sort.Direction.DESC, "id"));
+
+    private TransactionSpecifications() {}
+
+    public static Specification<Transaction> matching(Long userId, TransactionFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("user").get("id"), userId));
+
+            if (filter.getStartDate() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("transactionDate"), filter.getStartDate()));
+            }
+            if (filter.getEndDate() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("transactionDate"), filter.getEndDate()));
+            }
+            if (filter.getCategoryIds() != null && !filter.getCategoryIds().isEmpty()) {
+                if (filter.getCategoryIds().size() == 1) {
+                    predicates.add(cb.equal(root.get("category").get("id"), filter.getCategoryIds().get(0)));
+                } else {
+                    predicates.add(root.get("category").get("id").in(filter.getCategoryIds()));
+                }
+            }
+            if (filter.getType() != null) {
+                predicates.add(cb.equal(root.get("type"), filter.getType()));
+            }
+            if (filter.getMinAmount() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("amount"), filter.getMinAmount()));
+            }
+            if (filter.getMaxAmount() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("amount"), filter.getMaxAmount()));
+            }
+            if (filter.getDescription() != null && !filter.getDescription().isBlank()) {
+                String pattern = "%" + escapeLike(filter.getDescription().trim().toLowerCase(Locale.ROOT)) + "%";
+                predicates.add(cb.like(cb.lower(root.get("description")), pattern, '\\'));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    // Keyset predicate for (transactionDate DESC, id DESC) ordering.
+    public static Specification<Transaction> after(TransactionCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("transactionDate"), cursor.getTransactionDate()),
+                cb.and(
+                        cb.equal(root.get("transactionDate"), cursor.getTransactionDate()),
+                        cb.lessThan(root.get("id"), cursor.getId())));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -4,6 +4,7 @@ package Finance.Tracker.Finance.Tracker.security;
 
 
 import Finance.Tracker.Finance.Tracker.service.AuthService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +19,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -29,17 +31,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Lazy  // This breaks the circular dependency
     private AuthService authService;
 
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
         try {
             String jwt = parseJwt(request);
+            Optional<Claims> claims = jwt != null ? jwtUtil.parseJwtToken(jwt) : Optional.empty();
+
+            if (claims.isPresent()) {
+                UserDetails userDetails;
+                if (claims.get().get(JwtUtil.CLAIM_USER_ID) != null) {
+                    UserDetailsImpl principal = UserDetailsImpl.fromClaims(claims.get());
+                    if (tokenRevocationRegistry.isRevoked(principal.getId(), principal.getTokenVersion())) {
+                        filterChain.doFilter(request, response);
+                        return;
+                    }
+                    userDetails = principal;
+                } else {
+                    // Tokens issued before the user id was embedded; these expire within jwt.expiration.
+                    userDetails = authService.loadUserByUsername(claims.get().getSubject());
+                }
 
-            if (jwt != null && jwtUtil.validateJwtToken(jwt)) {
-                String username = jwtUtil.getUsernameFromJwtToken(jwt);
-
-                UserDetails userDetails = authService.loadUserByUsername(username);
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
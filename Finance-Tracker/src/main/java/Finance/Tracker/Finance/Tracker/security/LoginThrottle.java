@@ -0,0 +1,140 @@
+package Finance.Tracker.Finance.Tracker.security;
+
+import Finance.Tracker.Finance.Tracker.exception.TooManyAttemptsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts failed sign-ins per username and per client IP over fixed windows and refuses further
+ * attempts once either passes its limit, before any password hashing happens.
+ *
+ * <p>The per-account lockout is keyed by the username itself, in a bounded cache, so one
+ * account's failures never lock out another. Load shedding uses fixed arrays of stripes, each
+ * a single long holding the window number in the high bits and the failure count in the low 24
+ * bits, updated with CAS: client IPs hash onto one array and usernames onto another, whose
+ * per-stripe limit is much higher than the per-account one. Their memory is constant however
+ * many usernames an attacker tries, and the username stripes still throttle a spray that pushes
+ * accounts out of the cache.
+ */
+@Component
+public class LoginThrottle {
+
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    @Value("${login.throttle.window-seconds:300}")
+    private long windowSeconds;
+
+    @Value("${login.throttle.max-failures-per-username:10}")
+    private int maxFailuresPerUsername;
+
+    @Value("${login.throttle.max-failures-per-ip:100}")
+    private int maxFailuresPerIp;
+
+    @Value("${login.throttle.max-failures-per-stripe:100}")
+    private int maxFailuresPerStripe;
+
+    @Value("${login.throttle.max-usernames:100000}")
+    private long maxUsernames;
+
+    @Value("${login.throttle.stripes:4096}")
+    private int stripes;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // normalized username -> window and failure count, packed like a stripe
+    private Cache<String, Long> accountFailures;
+    private AtomicLongArray usernameFailures;
+    private AtomicLongArray ipFailures;
+    private Counter throttledByUsername;
+    private Counter throttledByStripe;
+    private Counter throttledByIp;
+
+    @PostConstruct
+    public void init() {
+        accountFailures = Caffeine.newBuilder()
+                .maximumSize(maxUsernames)
+                .expireAfterWrite(Duration.ofSeconds(windowSeconds))
+                .build();
+        int size = Integer.highestOneBit(Math.max(stripes, 1));
+        usernameFailures = new AtomicLongArray(size);
+        ipFailures = new AtomicLongArray(size);
+        throttledByUsername = Counter.builder("login.throttled").tag("by", "username").register(meterRegistry);
+        throttledByStripe = Counter.builder("login.throttled").tag("by", "stripe").register(meterRegistry);
+        throttledByIp = Counter.builder("login.throttled").tag("by", "ip").register(meterRegistry);
+    }
+
+    public void checkAllowed(String username, String clientIp) {
+        long window = currentWindow();
+        String account = normalize(username);
+        if (count(accountFailures.getIfPresent(account), window) >= maxFailuresPerUsername) {
+            throttledByUsername.increment();
+            throw new TooManyAttemptsException("Too many failed sign-in attempts for this account", secondsLeftInWindow());
+        }
+        if (failures(usernameFailures, account, window) >= maxFailuresPerStripe) {
+            throttledByStripe.increment();
+            throw new TooManyAttemptsException("Too many failed sign-in attempts", secondsLeftInWindow());
+        }
+        if (failures(ipFailures, clientIp, window) >= maxFailuresPerIp) {
+            throttledByIp.increment();
+            throw new TooManyAttemptsException("Too many failed sign-in attempts from this address", secondsLeftInWindow());
+        }
+    }
+
+    public void recordFailure(String username, String clientIp) {
+        long window = currentWindow();
+        String account = normalize(username);
+        accountFailures.asMap().compute(account, (key, value) -> next(value == null ? 0 : value, window));
+        increment(usernameFailures, account, window);
+        increment(ipFailures, clientIp, window);
+    }
+
+    private long currentWindow() {
+        return System.currentTimeMillis() / (windowSeconds * 1000);
+    }
+
+    private long secondsLeftInWindow() {
+        return windowSeconds - (System.currentTimeMillis() / 1000) % windowSeconds;
+    }
+
+    private static long failures(AtomicLongArray counters, String key, long window) {
+        return count(counters.get(stripe(counters, key)), window);
+    }
+
+    private static void increment(AtomicLongArray counters, String key, long window) {
+        int stripe = stripe(counters, key);
+        while (true) {
+            long value = counters.get(stripe);
+            if (counters.compareAndSet(stripe, value, next(value, window))) {
+                return;
+            }
+        }
+    }
+
+    private static long count(Long value, long window) {
+        return value != null && (value >>> COUNT_BITS) == window ? value & COUNT_MASK : 0;
+    }
+
+    private static long next(long value, long window) {
+        return (window << COUNT_BITS) | Math.min(count(value, window) + 1, COUNT_MASK);
+    }
+
+    private static int stripe(AtomicLongArray counters, String key) {
+        int h = key == null ? 0 : key.hashCode();
+        return (h ^ (h >>> 16)) & (counters.length() - 1);
+    }
+
+    private static String normalize(String username) {
+        return username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+    }
+}
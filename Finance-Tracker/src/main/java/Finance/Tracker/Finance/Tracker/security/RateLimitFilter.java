@@ -0,0 +1,183 @@
+package Finance.Tracker.Finance.Tracker.security;
+
+import Finance.Tracker.Finance.Tracker.exception.TooManyAttemptsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user token buckets for the API, applied right after the JWT filter has authenticated the
+ * request. Endpoints fall into three classes (read, write, export), each with its own capacity
+ * and refill rate, and every user gets one bucket per class.
+ *
+ * <p>A bucket is a single long: the time at which it would be full again (the GCRA form of a
+ * token bucket). Taking a token advances that time by one refill interval with a CAS, so there
+ * are no locks on the request path. A bucket whose time has passed is full and carries no
+ * state, which is what lets the sweep drop idle users without changing anyone's limits.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String EXPORT_PATH = "/api/transactions/export";
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.read.capacity:120}")
+    private long readCapacity;
+
+    @Value("${rate-limit.read.refill-per-second:20}")
+    private double readRefillPerSecond;
+
+    @Value("${rate-limit.write.capacity:30}")
+    private long writeCapacity;
+
+    @Value("${rate-limit.write.refill-per-second:5}")
+    private double writeRefillPerSecond;
+
+    @Value("${rate-limit.export.capacity:3}")
+    private long exportCapacity;
+
+    @Value("${rate-limit.export.refill-per-second:0.1}")
+    private double exportRefillPerSecond;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("handlerExceptionResolver")
+    private HandlerExceptionResolver handlerExceptionResolver;
+
+    private final ConcurrentHashMap<Long, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private Limit[] limits;
+    private Counter[] rejected;
+
+    @PostConstruct
+    public void init() {
+        limits = new Limit[] {
+                new Limit(readCapacity, readRefillPerSecond),
+                new Limit(writeCapacity, writeRefillPerSecond),
+                new Limit(exportCapacity, exportRefillPerSecond)
+        };
+        rejected = new Counter[EndpointClass.values().length];
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            rejected[endpointClass.ordinal()] = Counter.builder("rate-limit.rejected")
+                    .tag("class", endpointClass.tag)
+                    .register(meterRegistry);
+        }
+        Gauge.builder("rate-limit.buckets", buckets, ConcurrentHashMap::size).register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetailsImpl user)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        EndpointClass endpointClass = classify(request);
+        Limit limit = limits[endpointClass.ordinal()];
+        long now = System.nanoTime();
+        AtomicLong bucket = buckets.computeIfAbsent(user.getId() * 4 + endpointClass.ordinal(),
+                key -> new AtomicLong(now));
+        long full;
+        while (true) {
+            long current = bucket.get();
+            long start = current - now < 0 ? now : current;
+            long next = start + limit.intervalNanos;
+            if (next - now > limit.burstNanos) {
+                long retryAfterNanos = next - now - limit.burstNanos;
+                writeHeaders(response, limit, 0, start - now);
+                rejected[endpointClass.ordinal()].increment();
+                handlerExceptionResolver.resolveException(request, response, null, new TooManyAttemptsException(
+                        "Rate limit exceeded for " + endpointClass.tag + " requests", ceilSeconds(retryAfterNanos)));
+                return;
+            }
+            if (bucket.compareAndSet(current, next)) {
+                full = next - now;
+                break;
+            }
+        }
+
+        writeHeaders(response, limit, (limit.burstNanos - full) / limit.intervalNanos, full);
+        filterChain.doFilter(request, response);
+    }
+
+    // A concurrent request may still take a token from a bucket removed here; the user then
+    // starts again from a full bucket, which at most lets one extra request through.
+    @Scheduled(fixedDelayString = "${rate-limit.idle-sweep-ms:60000}")
+    public void removeIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.get() - now < 0);
+    }
+
+    private static EndpointClass classify(HttpServletRequest request) {
+        if (request.getRequestURI().startsWith(EXPORT_PATH)) {
+            return EndpointClass.EXPORT;
+        }
+        return switch (request.getMethod()) {
+            case "GET", "HEAD", "OPTIONS" -> EndpointClass.READ;
+            default -> EndpointClass.WRITE;
+        };
+    }
+
+    private static void writeHeaders(HttpServletResponse response, Limit limit, long remaining, long untilFullNanos) {
+        response.setHeader("RateLimit-Limit", String.valueOf(limit.capacity));
+        response.setHeader("RateLimit-Remaining", String.valueOf(Math.max(remaining, 0)));
+        response.setHeader("RateLimit-Reset", String.valueOf(ceilSeconds(Math.max(untilFullNanos, 0))));
+    }
+
+    private static long ceilSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private enum EndpointClass {
+        READ("read"), WRITE("write"), EXPORT("export");
+
+        private final String tag;
+
+        EndpointClass(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private static final class Limit {
+        private final long capacity;
+        private final long intervalNanos;
+        private final long burstNanos;
+
+        Limit(long capacity, double refillPerSecond) {
+            if (capacity < 1 || refillPerSecond <= 0) {
+                throw new IllegalArgumentException("Rate limits need a positive capacity and refill rate");
+            }
+            this.capacity = capacity;
+            this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+            this.burstNanos = capacity * intervalNanos;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package Finance.Tracker.Finance.Tracker.security;
+
+import Finance.Tracker.Finance.Tracker.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+
+/**
+ * Short-lived view of users.token_version. A JWT whose "ver" claim is below the current version
+ * is rejected. Entries expire after token-revocation.cache.ttl-seconds, so a revocation made on
+ * another instance takes effect here within that time; revocations made here apply at commit.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${token-revocation.cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${token-revocation.cache.max-users:10000}")
+    private long maxUsers;
+
+    private Cache<Long, Integer> currentVersions;
+
+    @PostConstruct
+    public void init() {
+        currentVersions = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public boolean isRevoked(Long userId, int tokenVersion) {
+        Integer current = currentVersions.getIfPresent(userId);
+        if (current == null) {
+            // Queried outside the cache's map lock, like the category cache.
+            current = recordVersion(userId, userRepository.findTokenVersionById(userId).orElse(0));
+        }
+        return tokenVersion < current;
+    }
+
+    // Inside a transaction the new version is published after commit, once other readers see it too.
+    public void updateVersion(Long userId, int tokenVersion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordVersion(userId, tokenVersion);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordVersion(userId, tokenVersion);
+            }
+        });
+    }
+
+    private Integer recordVersion(Long userId, int tokenVersion) {
+        return currentVersions.asMap().merge(userId, tokenVersion, Math::max);
+    }
+}
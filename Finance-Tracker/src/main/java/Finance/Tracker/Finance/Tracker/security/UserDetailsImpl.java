@@ -1,6 +1,7 @@
 package Finance.Tracker.Finance.Tracker.security;
 
 import Finance.Tracker.Finance.Tracker.model.User;
+import io.jsonwebtoken.Claims;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
@@ -11,12 +12,18 @@ public class UserDetailsImpl implements UserDetails {
     private String username;
     private String email;
     private String password;
+    private int tokenVersion;
 
     public UserDetailsImpl(Long id, String username, String email, String password) {
+        this(id, username, email, password, 0);
+    }
+
+    public UserDetailsImpl(Long id, String username, String email, String password, int tokenVersion) {
         this.id = id;
         this.username = username;
         this.email = email;
         this.password = password;
+        this.tokenVersion = tokenVersion;
     }
 
     public static UserDetailsImpl build(User user) {
@@ -24,7 +31,20 @@ public class UserDetailsImpl implements UserDetails {
                 user.getId(),
                 user.getUsername(),
                 user.getEmail(),
-                user.getPassword()
+                user.getPassword(),
+                user.getTokenVersion()
+        );
+    }
+
+    // Principal for an already-verified JWT; carries no password.
+    public static UserDetailsImpl fromClaims(Claims claims) {
+        Number tokenVersion = claims.get(JwtUtil.CLAIM_TOKEN_VERSION, Number.class);
+        return new UserDetailsImpl(
+                claims.get(JwtUtil.CLAIM_USER_ID, Number.class).longValue(),
+                claims.getSubject(),
+                claims.get(JwtUtil.CLAIM_EMAIL, String.class),
+                null,
+                tokenVersion != null ? tokenVersion.intValue() : 0
         );
     }
 
@@ -41,6 +61,10 @@ public class UserDetailsImpl implements UserDetails {
         return email;
     }
 
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
     @Override
     public String getPassword() {
         return password;
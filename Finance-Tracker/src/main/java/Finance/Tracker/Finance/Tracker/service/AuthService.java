@@ -6,8 +6,12 @@ import Finance.Tracker.Finance.Tracker.dto.LoginRequest;
 import Finance.Tracker.Finance.Tracker.dto.RegisterRequest;
 import Finance.Tracker.Finance.Tracker.model.User;
 import Finance.Tracker.Finance.Tracker.repository.UserRepository;
+import Finance.Tracker.Finance.Tracker.exception.ServiceOverloadedException;
 import Finance.Tracker.Finance.Tracker.security.JwtUtil;
+import Finance.Tracker.Finance.Tracker.security.LoginThrottle;
+import Finance.Tracker.Finance.Tracker.security.TokenRevocationRegistry;
 import Finance.Tracker.Finance.Tracker.security.UserDetailsImpl;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -18,10 +22,13 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.util.HashMap;
 import java.util.Map;
 
 @Service
+@Timed("finance.service")
 public class AuthService implements UserDetailsService {
 
     @Autowired
@@ -37,6 +44,18 @@ public class AuthService implements UserDetailsService {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private LoginThrottle loginThrottle;
+
     public Map<String, Object> registerUser(RegisterRequest registerRequest) {
         Map<String, Object> response = new HashMap<>();
 
@@ -52,6 +71,7 @@ public class AuthService implements UserDetailsService {
             return response;
         }
 
+        // Hashed before the transaction starts so no connection is held during the BCrypt work.
         User user = new User(
                 registerRequest.getUsername(),
                 registerRequest.getEmail(),
@@ -60,7 +80,11 @@ public class AuthService implements UserDetailsService {
                 registerRequest.getLastName()
         );
 
-        User savedUser = userRepository.save(user);
+        User savedUser = transactionTemplate.execute(status -> {
+            User saved = userRepository.save(user);
+            categoryService.createDefaultCategories(saved);
+            return saved;
+        });
 
         response.put("success", true);
         response.put("message", "User registered successfully!");
@@ -69,8 +93,9 @@ public class AuthService implements UserDetailsService {
         return response;
     }
 
-    public Map<String, Object> authenticateUser(LoginRequest loginRequest) {
+    public Map<String, Object> authenticateUser(LoginRequest loginRequest, String clientIp) {
         Map<String, Object> response = new HashMap<>();
+        loginThrottle.checkAllowed(loginRequest.getUsername(), clientIp);
 
         try {
             Authentication authentication = authenticationManager.authenticate(
@@ -81,7 +106,8 @@ public class AuthService implements UserDetailsService {
             );
 
             UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
-            String jwt = jwtUtil.generateJwtToken(userDetails.getUsername());
+            String jwt = jwtUtil.generateJwtToken(userDetails);
+            tokenRevocationRegistry.updateVersion(userDetails.getId(), userDetails.getTokenVersion());
 
             Map<String, Object> userInfo = new HashMap<>();
             userInfo.put("id", userDetails.getId());
@@ -92,7 +118,10 @@ public class AuthService implements UserDetailsService {
             response.put("token", jwt);
             response.put("user", userInfo);
 
+        } catch (ServiceOverloadedException e) {
+            throw e;
         } catch (Exception e) {
+            loginThrottle.recordFailure(loginRequest.getUsername(), clientIp);
             response.put("success", false);
             response.put("message", "Invalid username or password!");
         }
@@ -100,6 +129,16 @@ public class AuthService implements UserDetailsService {
         return response;
     }
 
+    @Transactional
+    public void revokeTokens(Long userId) {
+        if (userRepository.incrementTokenVersion(userId) == 0) {
+            throw new RuntimeException("User not found");
+        }
+        Integer tokenVersion = userRepository.findTokenVersionById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        tokenRevocationRegistry.updateVersion(userId, tokenVersion);
+    }
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUsername(username)
@@ -3,19 +3,30 @@ package Finance.Tracker.Finance.Tracker.service;
 
 
 import Finance.Tracker.Finance.Tracker.dto.BudgetDto;
+import Finance.Tracker.Finance.Tracker.dto.BudgetStatusDto;
+import Finance.Tracker.Finance.Tracker.dto.CategoryDto;
+import Finance.Tracker.Finance.Tracker.exception.BudgetNotFoundException;
+import Finance.Tracker.Finance.Tracker.dto.TransactionType;
 import Finance.Tracker.Finance.Tracker.model.Budget;
-import Finance.Tracker.Finance.Tracker.model.Category;
 import Finance.Tracker.Finance.Tracker.model.User;
 import Finance.Tracker.Finance.Tracker.repository.BudgetRepository;
 import Finance.Tracker.Finance.Tracker.repository.CategoryRepository;
+import Finance.Tracker.Finance.Tracker.repository.MonthlyRollupRepository;
 import Finance.Tracker.Finance.Tracker.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("finance.service")
 public class BudgetService {
 
     @Autowired
@@ -27,6 +38,15 @@ public class BudgetService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MonthlyRollupRepository rollupRepository;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
     public List<BudgetDto> getBudgetsByMonth(Long userId, Integer month, Integer year) {
         List<Budget> budgets = budgetRepository.findByUserIdAndMonthAndYear(userId, month, year);
         return budgets.stream()
@@ -34,6 +54,23 @@ public class BudgetService {
                 .collect(Collectors.toList());
     }
 
+    public List<BudgetStatusDto> getBudgetStatus(Long userId, Integer month, Integer year) {
+        List<Budget> budgets = budgetRepository.findByUserIdAndMonthAndYear(userId, month, year);
+        if (budgets.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, BigDecimal> spentByCategory = new HashMap<>();
+        for (Object[] row : rollupRepository.sumByCategory(userId, year, month, TransactionType.EXPENSE)) {
+            spentByCategory.put((Long) row[0], (BigDecimal) row[1]);
+        }
+
+        return budgets.stream()
+                .map(budget -> convertToStatusDto(budget,
+                        spentByCategory.getOrDefault(budget.getCategory().getId(), BigDecimal.ZERO)))
+                .collect(Collectors.toList());
+    }
+
     public List<BudgetDto> getAllBudgets(Long userId) {
         List<Budget> budgets = budgetRepository.findByUserId(userId);
         return budgets.stream()
@@ -41,17 +78,14 @@ public class BudgetService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional
     public BudgetDto createOrUpdateBudget(Long userId, BudgetDto budgetDto) {
  
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        Category category = categoryRepository.findById(budgetDto.getCategoryId())
-                .orElseThrow(() -> new RuntimeException("Category not found"));
-
-        if (!category.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Category does not belong to user");
-        }
+        CategoryDto category = categoryService.getOwnedCategory(userId, budgetDto.getCategoryId());
+        dataVersionService.bump(userId);
 
         Optional<Budget> existingBudget = budgetRepository.findByUserIdAndCategoryIdAndMonthAndYear(
                 userId, budgetDto.getCategoryId(), budgetDto.getMonth(), budgetDto.getYear());
@@ -63,42 +97,55 @@ public class BudgetService {
         } else {
             budget = new Budget();
             budget.setUser(user);
-            budget.setCategory(category);
+            budget.setCategory(categoryRepository.getReferenceById(category.getId()));
             budget.setAmount(budgetDto.getAmount());
             budget.setMonth(budgetDto.getMonth());
             budget.setYear(budgetDto.getYear());
         }
 
         Budget savedBudget = budgetRepository.save(budget);
-        return convertToDto(savedBudget);
+        return convertToDto(savedBudget, category.getName());
     }
 
+    @Transactional
     public void deleteBudget(Long userId, Long budgetId) {
-        Budget budget = budgetRepository.findById(budgetId)
-                .orElseThrow(() -> new RuntimeException("Budget not found"));
-
-        if (!budget.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Budget does not belong to user");
+        dataVersionService.bump(userId);
+        if (budgetRepository.deleteByIdAndUserId(budgetId, userId) == 0) {
+            throw new BudgetNotFoundException("Budget not found");
         }
-
-        budgetRepository.delete(budget);
     }
 
     public Optional<BudgetDto> getBudgetById(Long userId, Long budgetId) {
-        Optional<Budget> budget = budgetRepository.findById(budgetId);
+        return budgetRepository.findByIdAndUserId(budgetId, userId).map(this::convertToDto);
+    }
 
-        if (budget.isPresent() && budget.get().getUser().getId().equals(userId)) {
-            return Optional.of(convertToDto(budget.get()));
+    private BudgetStatusDto convertToStatusDto(Budget budget, BigDecimal spent) {
+        BudgetStatusDto dto = new BudgetStatusDto();
+        dto.setId(budget.getId());
+        dto.setCategoryId(budget.getCategory().getId());
+        dto.setCategoryName(budget.getCategory().getName());
+        dto.setAmount(budget.getAmount());
+        dto.setMonth(budget.getMonth());
+        dto.setYear(budget.getYear());
+        dto.setSpent(spent);
+        dto.setRemaining(budget.getAmount().subtract(spent));
+        // Budgets saved before amounts had a 0.01 minimum can be zero; they have no percentage.
+        if (budget.getAmount().signum() != 0) {
+            dto.setPercentUsed(spent.multiply(BigDecimal.valueOf(100))
+                    .divide(budget.getAmount(), 2, RoundingMode.HALF_UP));
         }
-
-        return Optional.empty();
+        return dto;
     }
 
     private BudgetDto convertToDto(Budget budget) {
+        return convertToDto(budget, budget.getCategory().getName());
+    }
+
+    private BudgetDto convertToDto(Budget budget, String categoryName) {
         BudgetDto dto = new BudgetDto();
         dto.setId(budget.getId());
         dto.setCategoryId(budget.getCategory().getId());
-        dto.setCategoryName(budget.getCategory().getName());
+        dto.setCategoryName(categoryName);
         dto.setAmount(budget.getAmount());
         dto.setMonth(budget.getMonth());
         dto.setYear(budget.getYear());
@@ -2,17 +2,37 @@ package Finance.Tracker.Finance.Tracker.service;
 
 import Finance.Tracker.Finance.Tracker.dto.CategoryDto;
 import Finance.Tracker.Finance.Tracker.dto.TransactionType;
+import Finance.Tracker.Finance.Tracker.exception.CategoryNotFoundException;
 import Finance.Tracker.Finance.Tracker.model.Category;
 import Finance.Tracker.Finance.Tracker.model.User;
 import Finance.Tracker.Finance.Tracker.repository.CategoryRepository;
 import Finance.Tracker.Finance.Tracker.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("finance.service")
 public class CategoryService {
 
     @Autowired
@@ -21,47 +41,131 @@ public class CategoryService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Value("${category.cache.max-users:10000}")
+    private long cacheMaxUsers;
+
+    @Value("${category.cache.expire-after-access-minutes:30}")
+    private long cacheExpireMinutes;
+
+    @Value("${category.defaults.expense:Food,Transport,Entertainment,Shopping,Bills,Healthcare}")
+    private List<String> defaultExpenseCategories;
+
+    @Value("${category.defaults.income:Salary,Freelance,Investment,Other Income}")
+    private List<String> defaultIncomeCategories;
+
+    // userId -> that user's categories by id, in name order. Every category write for the user
+    // invalidates the entry, so readers never see a stale list.
+    private AsyncCache<Long, Map<Long, CategoryDto>> categoriesByUser;
+
+    @PostConstruct
+    public void init() {
+        categoriesByUser = Caffeine.newBuilder()
+                .maximumSize(cacheMaxUsers)
+                .expireAfterAccess(Duration.ofMinutes(cacheExpireMinutes))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, categoriesByUser, "categories");
+    }
+
     public List<CategoryDto> getAllCategories(Long userId) {
-        List<Category> categories = categoryRepository.findByUserIdOrderByName(userId);
-        return categories.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return List.copyOf(getCategoryMap(userId).values());
     }
 
     public List<CategoryDto> getCategoriesByType(Long userId, TransactionType type) {
-        List<Category> categories = categoryRepository.findByUserIdAndType(userId, type);
-        return categories.stream()
-                .map(this::convertToDto)
+        return getCategoryMap(userId).values().stream()
+                .filter(category -> category.getType() == type)
                 .collect(Collectors.toList());
     }
 
+    // Cached view of the user's categories keyed by id; treat the DTOs as read-only.
+    public Map<Long, CategoryDto> getCategoryMap(Long userId) {
+        CompletableFuture<Map<Long, CategoryDto>> cached = categoriesByUser.getIfPresent(userId);
+        if (cached != null) {
+            return cached.join();
+        }
+
+        // The query runs outside the cache's map lock (a JDBC call inside Caffeine's compute
+        // would pin a virtual thread); concurrent misses for the same user wait on one load.
+        CompletableFuture<Map<Long, CategoryDto>> loading = new CompletableFuture<>();
+        cached = categoriesByUser.asMap().putIfAbsent(userId, loading);
+        if (cached != null) {
+            return cached.join();
+        }
+        try {
+            loading.complete(loadCategories(userId));
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+        return loading.join();
+    }
+
+    // Ownership check without a query: throws unless the category exists and belongs to the user.
+    public CategoryDto getOwnedCategory(Long userId, Long categoryId) {
+        CategoryDto category = categoryId != null ? getCategoryMap(userId).get(categoryId) : null;
+        if (category == null) {
+            throw new CategoryNotFoundException("Category not found");
+        }
+        return category;
+    }
+
+    // Inside a transaction the entry is dropped after commit: dropped earlier, a concurrent
+    // reader could cache the pre-commit list again and keep it until it expires.
+    public void evict(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            categoriesByUser.synchronous().invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                categoriesByUser.synchronous().invalidate(userId);
+            }
+        });
+    }
+
+    private Map<Long, CategoryDto> loadCategories(Long userId) {
+        Map<Long, CategoryDto> categories = new LinkedHashMap<>();
+        for (Category category : categoryRepository.findByUserIdOrderByName(userId)) {
+            categories.put(category.getId(), convertToDto(category));
+        }
+        return Collections.unmodifiableMap(categories);
+    }
+
+    @Transactional
     public CategoryDto createCategory(Long userId, CategoryDto categoryDto) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
         if (categoryRepository.existsByNameAndUserId(categoryDto.getName(), userId)) {
             throw new RuntimeException("Category with this name already exists");
         }
+        dataVersionService.bump(userId);
         Category category = new Category();
         category.setName(categoryDto.getName());
         category.setType(categoryDto.getType());
         category.setUser(user);
 
         Category savedCategory = categoryRepository.save(category);
+        evict(userId);
         return convertToDto(savedCategory);
     }
 
+    @Transactional
     public CategoryDto updateCategory(Long userId, Long categoryId, CategoryDto categoryDto) {
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new RuntimeException("Category not found"));
-
-        if (!category.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Category does not belong to user");
-        }
+        Category category = categoryRepository.findByIdAndUserId(categoryId, userId)
+                .orElseThrow(() -> new CategoryNotFoundException("Category not found"));
 
         if (!category.getName().equals(categoryDto.getName()) &&
                 categoryRepository.existsByNameAndUserId(categoryDto.getName(), userId)) {
             throw new RuntimeException("Category with this name already exists");
         }
+        dataVersionService.bump(userId);
 
         if (categoryDto.getName() != null) {
             category.setName(categoryDto.getName());
@@ -71,48 +175,41 @@ public class CategoryService {
         }
 
         Category updatedCategory = categoryRepository.save(category);
+        evict(userId);
         return convertToDto(updatedCategory);
     }
 
+    @Transactional
     public void deleteCategory(Long userId, Long categoryId) {
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new RuntimeException("Category not found"));
-
-        if (!category.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Category does not belong to user");
+        dataVersionService.bump(userId);
+        if (categoryRepository.deleteByIdAndUserId(categoryId, userId) == 0) {
+            throw new CategoryNotFoundException("Category not found");
         }
-
-        categoryRepository.delete(category);
+        evict(userId);
     }
 
     public Optional<CategoryDto> getCategoryById(Long userId, Long categoryId) {
-        Optional<Category> category = categoryRepository.findById(categoryId);
-
-        if (category.isPresent() && category.get().getUser().getId().equals(userId)) {
-            return Optional.of(convertToDto(category.get()));
-        }
-
-        return Optional.empty();
+        return Optional.ofNullable(getCategoryMap(userId).get(categoryId));
     }
 
-    public void createDefaultCategories(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        String[] expenseCategories = {"Food", "Transport", "Entertainment", "Shopping", "Bills", "Healthcare"};
-        for (String categoryName : expenseCategories) {
-            if (!categoryRepository.existsByNameAndUserId(categoryName, userId)) {
-                Category category = new Category(categoryName, TransactionType.EXPENSE, user);
-                categoryRepository.save(category);
+    // Adds the template categories the user does not have yet: one query for the existing
+    // names and one JDBC batch for the rest. Runs in the caller's transaction.
+    public void createDefaultCategories(User user) {
+        dataVersionService.bump(user.getId());
+        Set<String> existing = new HashSet<>(categoryRepository.findNamesByUserId(user.getId()));
+        List<Category> missing = new ArrayList<>();
+        for (String name : defaultExpenseCategories) {
+            if (existing.add(name)) {
+                missing.add(new Category(name, TransactionType.EXPENSE, user));
             }
         }
-        String[] incomeCategories = {"Salary", "Freelance", "Investment", "Other Income"};
-        for (String categoryName : incomeCategories) {
-            if (!categoryRepository.existsByNameAndUserId(categoryName, userId)) {
-                Category category = new Category(categoryName, TransactionType.INCOME, user);
-                categoryRepository.save(category);
+        for (String name : defaultIncomeCategories) {
+            if (existing.add(name)) {
+                missing.add(new Category(name, TransactionType.INCOME, user));
             }
         }
+        categoryRepository.insertAll(missing);
+        evict(user.getId());
     }
 
     private CategoryDto convertToDto(Category category) {
@@ -0,0 +1,49 @@
+package Finance.Tracker.Finance.Tracker.service;
+
+import Finance.Tracker.Finance.Tracker.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user version of the transactions, budgets and categories, used to build ETags for the GET
+ * endpoints. It is stored in users.data_version and bumped inside the writer's transaction, so
+ * it commits (or rolls back) with the data, survives restarts and is the same on every instance.
+ * Writes that bypass the services (manual SQL) have to bump the column themselves.
+ */
+@Service
+public class DataVersionService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final Map<Long, Integer> pending = new ConcurrentHashMap<>();
+
+    // Empty while a write for this user is still running here: the new version becomes visible
+    // at commit, before the afterCommit work (search index) that the response may depend on.
+    public Optional<Long> getVersion(Long userId) {
+        if (pending.containsKey(userId)) {
+            return Optional.empty();
+        }
+        return userRepository.findDataVersionById(userId);
+    }
+
+    // Call at the start of the write: the row lock is then taken before any child row's foreign
+    // key check takes a shared lock on the same users row, which would let two writers deadlock.
+    @Transactional
+    public void bump(Long userId) {
+        userRepository.incrementDataVersion(userId);
+        pending.merge(userId, 1, Integer::sum);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                pending.computeIfPresent(userId, (id, count) -> count == 1 ? null : count - 1);
+            }
+        });
+    }
+}
@@ -0,0 +1,160 @@
+package Finance.Tracker.Finance.Tracker.service;
+
+import Finance.Tracker.Finance.Tracker.dto.CategorySummaryDto;
+import Finance.Tracker.Finance.Tracker.dto.MonthlySummaryDto;
+import Finance.Tracker.Finance.Tracker.dto.TransactionType;
+import Finance.Tracker.Finance.Tracker.model.MonthlyRollup;
+import Finance.Tracker.Finance.Tracker.model.Transaction;
+import Finance.Tracker.Finance.Tracker.repository.MonthlyRollupRepository;
+import Finance.Tracker.Finance.Tracker.repository.TransactionRepository;
+import Finance.Tracker.Finance.Tracker.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the monthly_rollups table: per (user, year, month, category, type) totals
+ * that are kept in step with the transactions table so that monthly summaries are a
+ * single indexed read.
+ */
+@Service
+public class RollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(RollupService.class);
+
+    @Autowired
+    private MonthlyRollupRepository rollupRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Must be called inside the transaction that writes the transaction row.
+    public void recordAdded(Transaction transaction) {
+        applyDelta(transaction, 1);
+    }
+
+    public void recordRemoved(Transaction transaction) {
+        applyDelta(transaction, -1);
+    }
+
+    public void recordAddedAll(Collection<Transaction> transactions) {
+        applyDeltas(transactions, 1);
+    }
+
+    public void recordRemovedAll(Collection<Transaction> transactions) {
+        applyDeltas(transactions, -1);
+    }
+
+    // Folds the transactions into one delta per bucket before writing them as a single batch.
+    private void applyDeltas(Collection<Transaction> transactions, int sign) {
+        Map<String, MonthlyRollup> deltas = new HashMap<>();
+        for (Transaction transaction : transactions) {
+            LocalDate date = transaction.getTransactionDate();
+            Long userId = transaction.getUser().getId();
+            Long categoryId = transaction.getCategory().getId();
+            String key = userId + ":" + categoryId + ":" + date.getYear() + ":" + date.getMonthValue()
+                    + ":" + transaction.getType();
+
+            MonthlyRollup delta = deltas.computeIfAbsent(key, k -> {
+                MonthlyRollup rollup = new MonthlyRollup();
+                rollup.setUserId(userId);
+                rollup.setCategoryId(categoryId);
+                rollup.setYear(date.getYear());
+                rollup.setMonth(date.getMonthValue());
+                rollup.setType(transaction.getType());
+                rollup.setTotalAmount(BigDecimal.ZERO);
+                rollup.setTransactionCount(0L);
+                return rollup;
+            });
+            BigDecimal amount = sign < 0 ? transaction.getAmount().negate() : transaction.getAmount();
+            delta.setTotalAmount(delta.getTotalAmount().add(amount));
+            delta.setTransactionCount(delta.getTransactionCount() + sign);
+        }
+        rollupRepository.applyDeltas(deltas.values());
+    }
+
+    private void applyDelta(Transaction transaction, int sign) {
+        LocalDate date = transaction.getTransactionDate();
+        BigDecimal amount = sign < 0 ? transaction.getAmount().negate() : transaction.getAmount();
+        rollupRepository.applyDelta(
+                transaction.getUser().getId(),
+                transaction.getCategory().getId(),
+                date.getYear(),
+                date.getMonthValue(),
+                transaction.getType().name(),
+                amount,
+                sign);
+    }
+
+    @Transactional(readOnly = true)
+    public MonthlySummaryDto getMonthlySummary(Long userId, Integer month, Integer year) {
+        List<CategorySummaryDto> categories = rollupRepository.findCategorySummaries(userId, year, month);
+
+        BigDecimal totalIncome = BigDecimal.ZERO;
+        BigDecimal totalExpenses = BigDecimal.ZERO;
+        long transactionCount = 0;
+        for (CategorySummaryDto category : categories) {
+            if (category.getType() == TransactionType.INCOME) {
+                totalIncome = totalIncome.add(category.getTotal());
+            } else {
+                totalExpenses = totalExpenses.add(category.getTotal());
+            }
+            transactionCount += category.getTransactionCount();
+        }
+
+        MonthlySummaryDto summary = new MonthlySummaryDto();
+        summary.setMonth(month);
+        summary.setYear(year);
+        summary.setTotalIncome(totalIncome);
+        summary.setTotalExpenses(totalExpenses);
+        summary.setBalance(totalIncome.subtract(totalExpenses));
+        summary.setTransactionCount(transactionCount);
+        summary.setCategories(categories);
+        return summary;
+    }
+
+    @Transactional
+    public void rebuildForUser(Long userId) {
+        rollupRepository.deleteByUserId(userId);
+        rollupRepository.rebuildForUser(userId);
+    }
+
+    // Backfills the table the first time the app starts against existing transaction data.
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (rollupRepository.count() == 0 && transactionRepository.count() > 0) {
+            rebuildAll();
+        }
+    }
+
+    // Disabled unless rollup.rebuild.cron is set; each user is rebuilt in its own transaction.
+    @Scheduled(cron = "${rollup.rebuild.cron:-}")
+    public void rebuildAll() {
+        List<Long> userIds = userRepository.findAllIds();
+        for (Long userId : userIds) {
+            transactionTemplate.executeWithoutResult(status -> {
+                rollupRepository.deleteByUserId(userId);
+                rollupRepository.rebuildForUser(userId);
+            });
+        }
+        log.info("Rebuilt monthly rollups for {} users", userIds.size());
+    }
+}
@@ -0,0 +1,95 @@
+package Finance.Tracker.Finance.Tracker.service;
+
+import Finance.Tracker.Finance.Tracker.dto.TransactionDto;
+import Finance.Tracker.Finance.Tracker.repository.TransactionRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a user's full transaction history to an output stream row by row, so memory use
+ * does not depend on the number of transactions.
+ */
+@Service
+public class TransactionExportService {
+
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void exportTransactions(Long userId, String format, OutputStream out) throws IOException {
+        try (Stream<TransactionDto> rows = transactionRepository.streamByUserId(userId)) {
+            if (FORMAT_NDJSON.equals(format)) {
+                writeNdjson(rows, out);
+            } else {
+                writeCsv(rows, out);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeCsv(Stream<TransactionDto> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("id,date,type,category,amount,description\n");
+        Iterator<TransactionDto> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            TransactionDto row = iterator.next();
+            writer.write(String.valueOf(row.getId()));
+            writer.write(',');
+            writer.write(row.getTransactionDate().toString());
+            writer.write(',');
+            writer.write(row.getType().name());
+            writer.write(',');
+            writer.write(csvField(row.getCategoryName()));
+            writer.write(',');
+            writer.write(row.getAmount().toPlainString());
+            writer.write(',');
+            writer.write(csvField(row.getDescription()));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(Stream<TransactionDto> rows, OutputStream out) throws IOException {
+        try (SequenceWriter writer = objectMapper.writerFor(TransactionDto.class)
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValues(out)) {
+            Iterator<TransactionDto> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+            }
+        }
+        out.write('\n');
+        out.flush();
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,323 @@
+package Finance.Tracker.Finance.Tracker.service;
+
+import Finance.Tracker.Finance.Tracker.dto.CategoryDto;
+import Finance.Tracker.Finance.Tracker.dto.ImportResultDto;
+import Finance.Tracker.Finance.Tracker.dto.TransactionType;
+import Finance.Tracker.Finance.Tracker.exception.CategoryNotFoundException;
+import Finance.Tracker.Finance.Tracker.model.Category;
+import Finance.Tracker.Finance.Tracker.model.Transaction;
+import Finance.Tracker.Finance.Tracker.model.User;
+import Finance.Tracker.Finance.Tracker.repository.CategoryRepository;
+import Finance.Tracker.Finance.Tracker.repository.TransactionRepository;
+import Finance.Tracker.Finance.Tracker.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Scanner;
+
+/**
+ * Imports bank statements (CSV or OFX) for one user. The file is read incrementally and valid
+ * rows are written in JDBC batches; invalid rows are reported back by row number.
+ */
+@Service
+public class TransactionImportService {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("99999999.99");
+    private static final DateTimeFormatter OFX_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RollupService rollupService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TransactionSearchService transactionSearchService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Transactional
+    public ImportResultDto importStatement(Long userId, InputStream input, String format,
+                                           Long incomeCategoryId, Long expenseCategoryId) {
+        dataVersionService.bump(userId);
+        ImportBatch batch = new ImportBatch(userId);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            switch (format.toLowerCase(Locale.ROOT)) {
+                case "csv" -> importCsv(reader, batch);
+                case "ofx" -> importOfx(reader, batch,
+                        batch.requireCategory(incomeCategoryId, "incomeCategoryId"),
+                        batch.requireCategory(expenseCategoryId, "expenseCategoryId"));
+                default -> throw new RuntimeException("Unsupported import format: " + format);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read import file", e);
+        }
+        batch.flush();
+        return batch.result;
+    }
+
+    // Expects a header row; columns are matched by name: date, amount, category, type (optional), description (optional).
+    private void importCsv(BufferedReader reader, ImportBatch batch) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new RuntimeException("Import file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : List.of("date", "amount", "category")) {
+            if (!columns.containsKey(required)) {
+                throw new RuntimeException("Missing required column: " + required);
+            }
+        }
+
+        List<String> record;
+        while ((record = csv.next()) != null) {
+            int row = csv.getRecordNumber();
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            batch.result.setTotalRows(batch.result.getTotalRows() + 1);
+            try {
+                CategoryDto category = batch.categoryByName(field(record, columns, "category"));
+                String typeValue = field(record, columns, "type");
+                TransactionType type = typeValue.isEmpty() ? category.getType() : parseType(typeValue);
+                LocalDate date = LocalDate.parse(field(record, columns, "date"));
+                BigDecimal amount = parseAmount(field(record, columns, "amount"));
+                String description = field(record, columns, "description");
+
+                batch.add(category.getId(), amount, description.isEmpty() ? null : description, type, date);
+            } catch (DateTimeParseException e) {
+                batch.reject(row, "Invalid date, expected yyyy-MM-dd");
+            } catch (IllegalArgumentException e) {
+                batch.reject(row, e.getMessage());
+            }
+        }
+    }
+
+    // Reads <STMTTRN> blocks; credits go to the income category and debits to the expense category.
+    private void importOfx(BufferedReader reader, ImportBatch batch,
+                           CategoryDto incomeCategory, CategoryDto expenseCategory) {
+        Scanner scanner = new Scanner(reader).useDelimiter("<");
+        Map<String, String> fields = null;
+        int row = 0;
+
+        while (scanner.hasNext()) {
+            String token = scanner.next();
+            int end = token.indexOf('>');
+            if (end < 0) {
+                continue;
+            }
+            String tag = token.substring(0, end).trim().toUpperCase(Locale.ROOT);
+            String value = token.substring(end + 1).trim();
+
+            if (tag.equals("STMTTRN")) {
+                fields = new HashMap<>();
+            } else if (tag.equals("/STMTTRN") && fields != null) {
+                row++;
+                batch.result.setTotalRows(batch.result.getTotalRows() + 1);
+                try {
+                    BigDecimal signedAmount = new BigDecimal(fields.getOrDefault("TRNAMT", ""));
+                    boolean credit = signedAmount.signum() > 0;
+                    String dateValue = fields.getOrDefault("DTPOSTED", "");
+                    LocalDate date = LocalDate.parse(dateValue.substring(0, Math.min(8, dateValue.length())), OFX_DATE);
+                    String description = fields.containsKey("MEMO") ? fields.get("MEMO") : fields.get("NAME");
+
+                    batch.add(credit ? incomeCategory.getId() : expenseCategory.getId(),
+                            parseAmount(signedAmount.abs().toPlainString()),
+                            description,
+                            credit ? TransactionType.INCOME : TransactionType.EXPENSE,
+                            date);
+                } catch (DateTimeParseException e) {
+                    batch.reject(row, "Invalid DTPOSTED");
+                } catch (IllegalArgumentException e) {
+                    batch.reject(row, e instanceof NumberFormatException ? "Invalid TRNAMT" : e.getMessage());
+                }
+                fields = null;
+            } else if (fields != null && !tag.startsWith("/") && !value.isEmpty()) {
+                fields.put(tag, value);
+            }
+        }
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return "";
+        }
+        return record.get(index).trim();
+    }
+
+    private static TransactionType parseType(String value) {
+        try {
+            return TransactionType.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid type: " + value);
+        }
+    }
+
+    private static BigDecimal parseAmount(String value) {
+        BigDecimal amount;
+        try {
+            amount = new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid amount: " + value);
+        }
+        if (amount.signum() <= 0) {
+            throw new IllegalArgumentException("Amount must be positive");
+        }
+        if (amount.compareTo(MAX_AMOUNT) > 0) {
+            throw new IllegalArgumentException("Amount is too large");
+        }
+        return amount.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private class ImportBatch {
+        private final User user;
+        private final Map<Long, CategoryDto> categoriesById;
+        private final Map<String, CategoryDto> categoriesByName = new HashMap<>();
+        private final List<Transaction> pending = new ArrayList<>(BATCH_SIZE);
+        private final ImportResultDto result = new ImportResultDto();
+
+        ImportBatch(Long userId) {
+            this.user = userRepository.getReferenceById(userId);
+            this.categoriesById = categoryService.getCategoryMap(userId);
+            for (CategoryDto category : categoriesById.values()) {
+                categoriesByName.put(category.getName().toLowerCase(Locale.ROOT), category);
+            }
+        }
+
+        CategoryDto categoryByName(String name) {
+            CategoryDto category = categoriesByName.get(name.toLowerCase(Locale.ROOT));
+            if (category == null) {
+                throw new IllegalArgumentException("Unknown category: " + name);
+            }
+            return category;
+        }
+
+        CategoryDto requireCategory(Long categoryId, String parameter) {
+            if (categoryId == null) {
+                throw new RuntimeException(parameter + " is required for OFX imports");
+            }
+            CategoryDto category = categoriesById.get(categoryId);
+            if (category == null) {
+                throw new CategoryNotFoundException("Category not found");
+            }
+            return category;
+        }
+
+        void add(Long categoryId, BigDecimal amount, String description, TransactionType type, LocalDate date) {
+            Category category = categoryRepository.getReferenceById(categoryId);
+            pending.add(new Transaction(user, category, amount, description, type, date));
+            if (pending.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void reject(int row, String message) {
+            result.setFailedRows(result.getFailedRows() + 1);
+            if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                result.getErrors().add(new ImportResultDto.RowError(row, message));
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            transactionRepository.insertAll(pending);
+            rollupService.recordAddedAll(pending);
+            transactionSearchService.indexAll(user.getId(), pending);
+            result.setImportedRows(result.getImportedRows() + pending.size());
+            pending.clear();
+        }
+    }
+
+    // Minimal RFC 4180 reader: quoted fields may contain commas, doubled quotes and line breaks.
+    private static class CsvReader {
+        private final BufferedReader reader;
+        private int recordNumber;
+
+        CsvReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        int getRecordNumber() {
+            return recordNumber;
+        }
+
+        List<String> next() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            recordNumber++;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (quoted) {
+                        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            current.append('"');
+                            i++;
+                        } else if (c == '"') {
+                            quoted = false;
+                        } else {
+                            current.append(c);
+                        }
+                    } else if (c == '"') {
+                        quoted = true;
+                    } else if (c == ',') {
+                        fields.add(current.toString());
+                        current.setLength(0);
+                    } else {
+                        current.append(c);
+                    }
+                }
+                if (!quoted) {
+                    break;
+                }
+                line = reader.readLine();
+                if (line == null) {
+                    break;
+                }
+                current.append('\n');
+            }
+            fields.add(current.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package Finance.Tracker.Finance.Tracker.service;
+
+import Finance.Tracker.Finance.Tracker.dto.TransactionDto;
+import Finance.Tracker.Finance.Tracker.model.Transaction;
+import Finance.Tracker.Finance.Tracker.repository.TransactionRepository;
+import Finance.Tracker.Finance.Tracker.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Full-text index over transaction descriptions, kept in a local Lucene directory. Documents
+ * carry the owning user id, which every query filters on. The index follows the database:
+ * writes are applied after the surrounding transaction commits and become visible to searches
+ * at the next refresh (search.index.refresh-interval-ms, or at once for bulk writes and
+ * reindexing); they are flushed to disk on a timer and at shutdown.
+ */
+@Service
+public class TransactionSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionSearchService.class);
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_USER = "user";
+    private static final String FIELD_DESCRIPTION = "description";
+    private static final int MAX_RESULT_WINDOW = 10000;
+    private static final String COMMIT_BUILT = "built";
+    private static final int USER_LOCK_STRIPES = 64;
+
+    @Value("${search.index.dir:data/search-index}")
+    private String indexDir;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private FSDirectory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    // Index writes for a user and that user's reindex are serialized on the user's stripe, so
+    // a reindex never drops a document written while it was reading the rows.
+    private final ReentrantLock[] userLocks = new ReentrantLock[USER_LOCK_STRIPES];
+
+    @PostConstruct
+    public void init() throws IOException {
+        directory = FSDirectory.open(Path.of(indexDir));
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+        for (int i = 0; i < userLocks.length; i++) {
+            userLocks[i] = new ReentrantLock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    // Call after the row has an id; the index is only touched once the DB transaction commits.
+    public void index(Long userId, Transaction transaction) {
+        indexAll(userId, List.of(transaction), false);
+    }
+
+    // Bulk writes (imports, batches) are searchable as soon as they are applied.
+    public void indexAll(Long userId, Collection<Transaction> transactions) {
+        indexAll(userId, transactions, true);
+    }
+
+    public void removeAll(Long userId, Collection<Long> transactionIds) {
+        List<Long> ids = List.copyOf(transactionIds);
+        afterCommit(userId, () -> deleteDocuments(ids), false);
+    }
+
+    private void indexAll(Long userId, Collection<Transaction> transactions, boolean refresh) {
+        List<Document> documents = new ArrayList<>(transactions.size());
+        List<Long> blank = new ArrayList<>();
+        for (Transaction transaction : transactions) {
+            if (transaction.getDescription() == null || transaction.getDescription().isBlank()) {
+                blank.add(transaction.getId());
+            } else {
+                documents.add(toDocument(transaction.getId(), userId, transaction.getDescription()));
+            }
+        }
+        afterCommit(userId, () -> {
+            for (Document document : documents) {
+                writer.updateDocument(new Term(FIELD_ID, document.get(FIELD_ID)), document);
+            }
+            deleteDocuments(blank);
+        }, refresh);
+    }
+
+    // Returns the ids of matching transactions, best match first. The last word is also
+    // matched as a prefix so partially typed queries find results.
+    public Page<Long> search(Long userId, String text, int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size);
+        if ((long) (page + 1) * size > MAX_RESULT_WINDOW) {
+            throw new RuntimeException("Search results are limited to the first " + MAX_RESULT_WINDOW + " matches");
+        }
+        Query query = buildQuery(userId, text);
+        if (query == null) {
+            return Page.empty(pageable);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, (page + 1) * size);
+                long total = topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                        ? topDocs.totalHits.value : searcher.count(query);
+
+                List<Long> ids = new ArrayList<>(size);
+                ScoreDoc[] hits = topDocs.scoreDocs;
+                for (int i = page * size; i < hits.length; i++) {
+                    ids.add(Long.valueOf(searcher.storedFields().document(hits[i].doc).get(FIELD_ID)));
+                }
+                return new PageImpl<>(ids, pageable, total);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Search index is unavailable", e);
+        }
+    }
+
+    // Documents are replaced in place and only then are the user's stale ones deleted, so a
+    // refresh part way through shows the old and new documents rather than an empty index.
+    public void reindexUser(Long userId) {
+        ReentrantLock lock = lockFor(userId);
+        lock.lock();
+        try {
+            List<BytesRef> indexed = new ArrayList<>();
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<TransactionDto> rows = transactionRepository.streamByUserId(userId)) {
+                    rows.filter(row -> row.getDescription() != null && !row.getDescription().isBlank())
+                            .forEach(row -> {
+                                updateDocument(toDocument(row.getId(), userId, row.getDescription()));
+                                indexed.add(new BytesRef(row.getId().toString()));
+                            });
+                }
+            });
+            writer.deleteDocuments(new BooleanQuery.Builder()
+                    .add(new TermQuery(new Term(FIELD_USER, userId.toString())), BooleanClause.Occur.FILTER)
+                    .add(new TermInSetQuery(FIELD_ID, indexed), BooleanClause.Occur.MUST_NOT)
+                    .build());
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not rebuild search index", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Builds the index the first time the app starts against existing transaction data. The
+    // commit data remembers that it was built, so an index that is empty because every
+    // description is blank is not rebuilt at each start.
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIfEmpty() throws IOException {
+        for (Map.Entry<String, String> entry : writer.getLiveCommitData()) {
+            if (COMMIT_BUILT.equals(entry.getKey())) {
+                return;
+            }
+        }
+        if (writer.getDocStats().numDocs == 0 && transactionRepository.count() > 0) {
+            List<Long> userIds = userRepository.findAllIds();
+            userIds.forEach(this::reindexUser);
+            log.info("Built search index for {} users", userIds.size());
+        }
+        writer.setLiveCommitData(Map.of(COMMIT_BUILT, "true").entrySet());
+        writer.commit();
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.refresh-interval-ms:1000}")
+    public void refresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.commit-interval-ms:30000}")
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    private Query buildQuery(Long userId, String text) {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        boolean prefixLast = !Character.isWhitespace(text.charAt(text.length() - 1));
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(FIELD_USER, userId.toString())), BooleanClause.Occur.FILTER);
+        for (int i = 0; i < terms.size(); i++) {
+            Term term = new Term(FIELD_DESCRIPTION, terms.get(i));
+            if (i == terms.size() - 1 && prefixLast) {
+                // An exact match on the last word outranks words that merely start with it.
+                builder.add(new BooleanQuery.Builder()
+                        .add(new BoostQuery(new TermQuery(term), 2f), BooleanClause.Occur.SHOULD)
+                        .add(new PrefixQuery(term), BooleanClause.Occur.SHOULD)
+                        .build(), BooleanClause.Occur.MUST);
+            } else {
+                builder.add(new TermQuery(term), BooleanClause.Occur.MUST);
+            }
+        }
+        return builder.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(FIELD_DESCRIPTION, text)) {
+            CharTermAttribute attribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(attribute.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private Document toDocument(Long transactionId, Long userId, String description) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, transactionId.toString(), Field.Store.YES));
+        document.add(new StringField(FIELD_USER, userId.toString(), Field.Store.NO));
+        document.add(new TextField(FIELD_DESCRIPTION, description, Field.Store.NO));
+        return document;
+    }
+
+    private void updateDocument(Document document) {
+        try {
+            writer.updateDocument(new Term(FIELD_ID, document.get(FIELD_ID)), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteDocuments(List<Long> transactionIds) throws IOException {
+        if (transactionIds.isEmpty()) {
+            return;
+        }
+        Term[] terms = transactionIds.stream().map(id -> new Term(FIELD_ID, id.toString())).toArray(Term[]::new);
+        writer.deleteDocuments(terms);
+    }
+
+    private void afterCommit(Long userId, IndexUpdate update, boolean refresh) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(userId, update, refresh);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(userId, update, refresh);
+            }
+        });
+    }
+
+    // The database is the source of truth, so a failed index write is logged rather than
+    // surfaced; POST /api/transactions/search/reindex repairs the user's documents.
+    private void apply(Long userId, IndexUpdate update, boolean refresh) {
+        ReentrantLock lock = lockFor(userId);
+        lock.lock();
+        try {
+            update.run();
+            if (refresh) {
+                searcherManager.maybeRefreshBlocking();
+            }
+        } catch (IOException e) {
+            log.error("Search index update failed", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lockFor(Long userId) {
+        return userLocks[Math.floorMod(userId.hashCode(), userLocks.length)];
+    }
+
+    @FunctionalInterface
+    private interface IndexUpdate {
+        void run() throws IOException;
+    }
+}
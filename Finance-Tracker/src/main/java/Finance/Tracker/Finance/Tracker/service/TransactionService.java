@@ -1,24 +1,50 @@
 package Finance.Tracker.Finance.Tracker.service;
 
+import Finance.Tracker.Finance.Tracker.dto.BatchOperationDto;
+import Finance.Tracker.Finance.Tracker.dto.BatchOperationType;
+import Finance.Tracker.Finance.Tracker.dto.BatchResultDto;
+import Finance.Tracker.Finance.Tracker.dto.CategoryDto;
+import Finance.Tracker.Finance.Tracker.dto.CursorPageDto;
+import Finance.Tracker.Finance.Tracker.dto.TransactionCursor;
 import Finance.Tracker.Finance.Tracker.dto.TransactionDto;
+import Finance.Tracker.Finance.Tracker.dto.TransactionFilter;
 import Finance.Tracker.Finance.Tracker.dto.TransactionType;
+import Finance.Tracker.Finance.Tracker.exception.TransactionNotFoundException;
 import Finance.Tracker.Finance.Tracker.model.Category;
 import Finance.Tracker.Finance.Tracker.model.Transaction;
 import Finance.Tracker.Finance.Tracker.model.User;
 import Finance.Tracker.Finance.Tracker.repository.CategoryRepository;
 import Finance.Tracker.Finance.Tracker.repository.TransactionRepository;
+import Finance.Tracker.Finance.Tracker.repository.TransactionSpecifications;
 import Finance.Tracker.Finance.Tracker.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.Optional;
 
 @Service
+@Timed("finance.service")
 public class TransactionService {
 
+    public static final int MAX_BATCH_SIZE = 500;
+
     @Autowired
     private TransactionRepository transactionRepository;
 
@@ -28,57 +54,108 @@ public class TransactionService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private RollupService rollupService;
+
+    @Autowired
+    private TransactionSearchService transactionSearchService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
     public Page<TransactionDto> getAllTransactions(Long userId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         Page<Transaction> transactions = transactionRepository.findByUserIdOrderByTransactionDateDesc(userId, pageable);
         return transactions.map(this::convertToDto);
     }
 
-    public Page<TransactionDto> getTransactionsWithFilters(Long userId, LocalDate startDate,
-                                                           LocalDate endDate, Long categoryId,
-                                                           TransactionType type, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Transaction> transactions = transactionRepository.findTransactionsWithFilters(
-                userId, startDate, endDate, categoryId, type, pageable);
+    public Page<TransactionDto> getTransactionsWithFilters(Long userId, TransactionFilter filter, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, TransactionSpecifications.NEWEST_FIRST);
+        Page<Transaction> transactions = transactionRepository.findAll(
+                TransactionSpecifications.matching(userId, filter), pageable);
         return transactions.map(this::convertToDto);
     }
 
+    // Ranked full-text search; rows are loaded in one query and returned in rank order.
+    public Page<TransactionDto> searchTransactions(Long userId, String query, int page, int size) {
+        Page<Long> ids = transactionSearchService.search(userId, query, page, size);
+        if (ids.isEmpty()) {
+            return Page.empty(ids.getPageable());
+        }
+        Map<Long, Transaction> rows = transactionRepository.findByIdInAndUserId(ids.getContent(), userId).stream()
+                .collect(Collectors.toMap(Transaction::getId, Function.identity()));
+        List<TransactionDto> content = ids.getContent().stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToDto)
+                .toList();
+        return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
+    }
+
+    public CursorPageDto<TransactionDto> getTransactionsAfterCursor(Long userId, String cursor, int size,
+                                                                    TransactionFilter filter) {
+        TransactionCursor after = cursor != null && !cursor.isEmpty() ? TransactionCursor.decode(cursor) : null;
+        Pageable pageable = PageRequest.of(0, size);
+
+        Slice<Transaction> transactions;
+        if (filter != null && !filter.isEmpty()) {
+            Specification<Transaction> spec = TransactionSpecifications.matching(userId, filter);
+            if (after != null) {
+                spec = spec.and(TransactionSpecifications.after(after));
+            }
+            transactions = transactionRepository.findBy(spec, query -> query
+                    .project("category")
+                    .slice(PageRequest.of(0, size, TransactionSpecifications.NEWEST_FIRST)));
+        } else if (after != null) {
+            transactions = transactionRepository.findByUserIdAfterCursor(
+                    userId, after.getTransactionDate(), after.getId(), pageable);
+        } else {
+            transactions = transactionRepository.findByUserIdOrderByTransactionDateDescIdDesc(userId, pageable);
+        }
+
+        List<TransactionDto> content = transactions.map(this::convertToDto).getContent();
+        String nextCursor = null;
+        if (transactions.hasNext()) {
+            TransactionDto last = content.get(content.size() - 1);
+            nextCursor = new TransactionCursor(last.getTransactionDate(), last.getId()).encode();
+        }
+        return new CursorPageDto<>(content, size, transactions.hasNext(), nextCursor);
+    }
+
+    @Transactional
     public TransactionDto createTransaction(Long userId, TransactionDto transactionDto) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        Category category = categoryRepository.findById(transactionDto.getCategoryId())
-                .orElseThrow(() -> new RuntimeException("Category not found"));
+        CategoryDto category = categoryService.getOwnedCategory(userId, transactionDto.getCategoryId());
+        dataVersionService.bump(userId);
 
-        if (!category.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Category does not belong to user");
-        }
         Transaction transaction = new Transaction();
         transaction.setUser(user);
-        transaction.setCategory(category);
+        transaction.setCategory(categoryRepository.getReferenceById(category.getId()));
         transaction.setAmount(transactionDto.getAmount());
         transaction.setDescription(transactionDto.getDescription());
         transaction.setType(transactionDto.getType());
         transaction.setTransactionDate(transactionDto.getTransactionDate());
 
         Transaction savedTransaction = transactionRepository.save(transaction);
-        return convertToDto(savedTransaction);
+        rollupService.recordAdded(savedTransaction);
+        transactionSearchService.index(userId, savedTransaction);
+        return convertToDto(savedTransaction, category.getName());
     }
 
+    @Transactional
     public TransactionDto updateTransaction(Long userId, Long transactionId, TransactionDto transactionDto) {
-        Transaction transaction = transactionRepository.findById(transactionId)
-                .orElseThrow(() -> new RuntimeException("Transaction not found"));
-        if (!transaction.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Transaction does not belong to user");
-        }
+        Transaction transaction = transactionRepository.findByIdAndUserId(transactionId, userId)
+                .orElseThrow(() -> new TransactionNotFoundException("Transaction not found"));
+        dataVersionService.bump(userId);
+        rollupService.recordRemoved(transaction);
 
         if (transactionDto.getCategoryId() != null) {
-            Category category = categoryRepository.findById(transactionDto.getCategoryId())
-                    .orElseThrow(() -> new RuntimeException("Category not found"));
-
-            if (!category.getUser().getId().equals(userId)) {
-                throw new RuntimeException("Category does not belong to user");
-            }
-            transaction.setCategory(category);
+            CategoryDto category = categoryService.getOwnedCategory(userId, transactionDto.getCategoryId());
+            transaction.setCategory(categoryRepository.getReferenceById(category.getId()));
         }
 
         if (transactionDto.getAmount() != null) {
@@ -95,38 +172,218 @@ public class TransactionService {
         }
 
         Transaction updatedTransaction = transactionRepository.save(transaction);
-        return convertToDto(updatedTransaction);
+        rollupService.recordAdded(updatedTransaction);
+        transactionSearchService.index(userId, updatedTransaction);
+        return convertToDto(updatedTransaction, categoryService.getCategoryMap(userId));
     }
 
+    @Transactional
     public void deleteTransaction(Long userId, Long transactionId) {
-        Transaction transaction = transactionRepository.findById(transactionId)
-                .orElseThrow(() -> new RuntimeException("Transaction not found"));
+        // The row is read first because the rollup needs its amount, date and category. A
+        // concurrent delete can still remove it in between, so the delete's row count decides.
+        Transaction transaction = transactionRepository.findByIdAndUserId(transactionId, userId)
+                .orElseThrow(() -> new TransactionNotFoundException("Transaction not found"));
+
+        dataVersionService.bump(userId);
+        if (transactionRepository.deleteByIdAndUserId(transactionId, userId) == 0) {
+            throw new TransactionNotFoundException("Transaction not found");
+        }
+        rollupService.recordRemoved(transaction);
+        transactionSearchService.removeAll(userId, List.of(transactionId));
+    }
+
+    // Applies a mixed list of operations in one DB transaction. Items that fail validation are
+    // reported in their result and skipped; the rest are written with batched statements.
+    @Transactional
+    public List<BatchResultDto> processBatch(Long userId, List<BatchOperationDto> operations) {
+        if (operations.size() > MAX_BATCH_SIZE) {
+            throw new RuntimeException("A batch may contain at most " + MAX_BATCH_SIZE + " operations");
+        }
+        dataVersionService.bump(userId);
+
+        User user = userRepository.getReferenceById(userId);
+
+        Set<Long> transactionIds = new HashSet<>();
+        for (BatchOperationDto operation : operations) {
+            if (operation.getOp() != BatchOperationType.CREATE && operation.getId() != null) {
+                transactionIds.add(operation.getId());
+            }
+        }
+        Map<Long, CategoryDto> categories = categoryService.getCategoryMap(userId);
+        Map<Long, Transaction> existing = transactionIds.isEmpty() ? new HashMap<>() :
+                transactionRepository.findByIdInAndUserId(transactionIds, userId).stream()
+                        .collect(Collectors.toMap(Transaction::getId, Function.identity()));
+
+        List<Transaction> created = new ArrayList<>();
+        List<Transaction> deleted = new ArrayList<>();
+        List<Transaction> previousVersions = new ArrayList<>();
+        List<Transaction> updated = new ArrayList<>();
+        BatchResultDto[] results = new BatchResultDto[operations.size()];
+        Map<Integer, Transaction> createdByIndex = new HashMap<>();
+
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperationDto operation = operations.get(i);
+            BatchOperationType op = operation.getOp();
+            TransactionDto dto = operation.getTransaction();
+            try {
+                if (op == null) {
+                    throw new BatchItemException(400, "Operation is required");
+                }
+                switch (op) {
+                    case CREATE -> {
+                        validateForCreate(dto);
+                        Transaction transaction = new Transaction(user, resolveCategory(categories, dto.getCategoryId()),
+                                dto.getAmount(), dto.getDescription(), dto.getType(), dto.getTransactionDate());
+                        created.add(transaction);
+                        createdByIndex.put(i, transaction);
+                    }
+                    case UPDATE -> {
+                        Transaction transaction = findForBatch(existing, operation.getId());
+                        if (dto == null) {
+                            throw new BatchItemException(400, "Transaction payload is required");
+                        }
+                        if (dto.getAmount() != null && dto.getAmount().signum() <= 0) {
+                            throw new BatchItemException(400, "Amount must be positive");
+                        }
+                        Category category = dto.getCategoryId() != null
+                                ? resolveCategory(categories, dto.getCategoryId()) : null;
 
-        if (!transaction.getUser().getId().equals(userId)) {
-            throw new RuntimeException("Transaction does not belong to user");
+                        if (!updated.contains(transaction)) {
+                            previousVersions.add(copyOf(transaction));
+                            updated.add(transaction);
+                        }
+                        if (category != null) {
+                            transaction.setCategory(category);
+                        }
+                        if (dto.getAmount() != null) {
+                            transaction.setAmount(dto.getAmount());
+                        }
+                        if (dto.getDescription() != null) {
+                            transaction.setDescription(dto.getDescription());
+                        }
+                        if (dto.getType() != null) {
+                            transaction.setType(dto.getType());
+                        }
+                        if (dto.getTransactionDate() != null) {
+                            transaction.setTransactionDate(dto.getTransactionDate());
+                        }
+                        results[i] = new BatchResultDto(i, op, 200, transaction.getId(), null,
+                                convertToDto(transaction, categories));
+                    }
+                    case DELETE -> {
+                        Transaction transaction = findForBatch(existing, operation.getId());
+                        existing.remove(transaction.getId());
+                        int updatedIndex = updated.indexOf(transaction);
+                        if (updatedIndex >= 0) {
+                            // Roll back to the stored values so the rollup sees the row as it was.
+                            deleted.add(previousVersions.remove(updatedIndex));
+                            updated.remove(updatedIndex);
+                        } else {
+                            deleted.add(copyOf(transaction));
+                        }
+                        results[i] = new BatchResultDto(i, op, 204, transaction.getId(), null, null);
+                    }
+                }
+            } catch (BatchItemException e) {
+                results[i] = new BatchResultDto(i, op, e.status, operation.getId(), e.getMessage(), null);
+            }
+        }
+
+        transactionRepository.insertAll(created);
+        if (!deleted.isEmpty()) {
+            transactionRepository.deleteAllByIdInBatch(deleted.stream().map(Transaction::getId).toList());
         }
+        transactionRepository.flush();
+
+        List<Transaction> removed = new ArrayList<>(previousVersions);
+        removed.addAll(deleted);
+        List<Transaction> added = new ArrayList<>(created);
+        added.addAll(updated);
+        rollupService.recordRemovedAll(removed);
+        rollupService.recordAddedAll(added);
+        transactionSearchService.removeAll(userId, deleted.stream().map(Transaction::getId).toList());
+        transactionSearchService.indexAll(userId, added);
 
-        transactionRepository.delete(transaction);
+        for (Map.Entry<Integer, Transaction> entry : createdByIndex.entrySet()) {
+            Transaction transaction = entry.getValue();
+            results[entry.getKey()] = new BatchResultDto(entry.getKey(), BatchOperationType.CREATE, 201,
+                    transaction.getId(), null, convertToDto(transaction, categories));
+        }
+        return List.of(results);
     }
 
-    public Optional<TransactionDto> getTransactionById(Long userId, Long transactionId) {
-        Optional<Transaction> transaction = transactionRepository.findById(transactionId);
+    private void validateForCreate(TransactionDto dto) {
+        if (dto == null) {
+            throw new BatchItemException(400, "Transaction payload is required");
+        }
+        if (dto.getAmount() == null || dto.getAmount().signum() <= 0) {
+            throw new BatchItemException(400, "Amount must be positive");
+        }
+        if (dto.getType() == null) {
+            throw new BatchItemException(400, "Type is required");
+        }
+        if (dto.getCategoryId() == null) {
+            throw new BatchItemException(400, "Category ID is required");
+        }
+        if (dto.getTransactionDate() == null) {
+            throw new BatchItemException(400, "Transaction date is required");
+        }
+    }
 
-        if (transaction.isPresent() && transaction.get().getUser().getId().equals(userId)) {
-            return Optional.of(convertToDto(transaction.get()));
+    private Category resolveCategory(Map<Long, CategoryDto> categories, Long categoryId) {
+        if (!categories.containsKey(categoryId)) {
+            throw new BatchItemException(404, "Category not found");
         }
+        return categoryRepository.getReferenceById(categoryId);
+    }
+
+    private Transaction findForBatch(Map<Long, Transaction> existing, Long transactionId) {
+        Transaction transaction = transactionId != null ? existing.get(transactionId) : null;
+        if (transaction == null) {
+            throw new BatchItemException(404, "Transaction not found");
+        }
+        return transaction;
+    }
 
-        return Optional.empty();
+    private Transaction copyOf(Transaction transaction) {
+        Transaction copy = new Transaction(transaction.getUser(), transaction.getCategory(),
+                transaction.getAmount(), transaction.getDescription(), transaction.getType(),
+                transaction.getTransactionDate());
+        copy.setId(transaction.getId());
+        return copy;
+    }
+
+    private static class BatchItemException extends RuntimeException {
+        private final int status;
+
+        BatchItemException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    public Optional<TransactionDto> getTransactionById(Long userId, Long transactionId) {
+        return transactionRepository.findByIdAndUserId(transactionId, userId).map(this::convertToDto);
     }
 
     private TransactionDto convertToDto(Transaction transaction) {
+        return convertToDto(transaction, transaction.getCategory().getName());
+    }
+
+    // For rows whose category may be an unloaded reference: the name comes from the category cache.
+    private TransactionDto convertToDto(Transaction transaction, Map<Long, CategoryDto> categories) {
+        CategoryDto category = categories.get(transaction.getCategory().getId());
+        return convertToDto(transaction, category != null ? category.getName() : transaction.getCategory().getName());
+    }
+
+    private TransactionDto convertToDto(Transaction transaction, String categoryName) {
         TransactionDto dto = new TransactionDto();
         dto.setId(transaction.getId());
         dto.setAmount(transaction.getAmount());
         dto.setDescription(transaction.getDescription());
         dto.setType(transaction.getType());
         dto.setCategoryId(transaction.getCategory().getId());
-        dto.setCategoryName(transaction.getCategory().getName());
+        dto.setCategoryName(categoryName);
         dto.setTransactionDate(transaction.getTransactionDate());
         return dto;
     }
@@ -0,0 +1,44 @@
+-- Listing and keyset paging: WHERE user_id = ? ORDER BY transaction_date DESC, id DESC
+CREATE INDEX idx_transactions_user_date ON transactions (user_id, transaction_date, id);
+
+-- Category-filtered listing and findByUserIdAndCategoryId
+CREATE INDEX idx_transactions_user_category_date ON transactions (user_id, category_id, transaction_date);
+
+-- Databases from before this migration may hold duplicate category names per user and duplicate
+-- budgets per period. Duplicates are merged into the lowest category id and the newest budget so
+-- the unique keys below can be added. The derived tables are grouped so MySQL materializes them
+-- instead of rejecting a subquery on the table being modified.
+UPDATE transactions SET category_id = (
+    SELECT MIN(keep.id) FROM categories dup
+    JOIN categories keep ON keep.user_id = dup.user_id AND keep.name = dup.name
+    WHERE dup.id = transactions.category_id)
+WHERE category_id IN (
+    SELECT dup.id FROM categories dup
+    JOIN categories keep ON keep.user_id = dup.user_id AND keep.name = dup.name AND keep.id < dup.id);
+
+UPDATE budgets SET category_id = (
+    SELECT MIN(keep.id) FROM categories dup
+    JOIN categories keep ON keep.user_id = dup.user_id AND keep.name = dup.name
+    WHERE dup.id = budgets.category_id)
+WHERE category_id IN (
+    SELECT dup.id FROM categories dup
+    JOIN categories keep ON keep.user_id = dup.user_id AND keep.name = dup.name AND keep.id < dup.id);
+
+DELETE FROM categories WHERE id IN (
+    SELECT id FROM (
+        SELECT dup.id FROM categories dup
+        JOIN categories keep ON keep.user_id = dup.user_id AND keep.name = dup.name AND keep.id < dup.id
+        GROUP BY dup.id) duplicate_categories);
+
+DELETE FROM budgets WHERE id IN (
+    SELECT id FROM (
+        SELECT old.id FROM budgets old
+        JOIN budgets newer ON newer.user_id = old.user_id AND newer.year = old.year
+            AND newer.month = old.month AND newer.category_id = old.category_id AND newer.id > old.id
+        GROUP BY old.id) duplicate_budgets);
+
+-- existsByNameAndUserId; also stops duplicate names from concurrent requests
+ALTER TABLE categories ADD CONSTRAINT uk_categories_user_name UNIQUE (user_id, name);
+
+-- findByUserIdAndCategoryIdAndMonthAndYear; category last so findByUserIdAndMonthAndYear uses the prefix
+ALTER TABLE budgets ADD CONSTRAINT uk_budgets_user_period_category UNIQUE (user_id, year, month, category_id);
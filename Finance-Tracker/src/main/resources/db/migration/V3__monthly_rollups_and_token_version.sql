@@ -0,0 +1,16 @@
+-- Monthly totals per user, category and type, kept by RollupService
+CREATE TABLE IF NOT EXISTS monthly_rollups (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    year INT NOT NULL,
+    month INT NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    total_amount DECIMAL(15, 2) NOT NULL,
+    transaction_count BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_monthly_rollups_bucket UNIQUE (user_id, year, month, category_id, type)
+) ENGINE = InnoDB;
+
+-- Bumped to revoke every token issued to a user
+ALTER TABLE users ADD COLUMN token_version INT NOT NULL DEFAULT 0;
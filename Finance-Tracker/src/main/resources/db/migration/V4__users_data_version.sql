@@ -0,0 +1,2 @@
+-- Per-user version of transactions, budgets and categories, bumped by every write; ETags are built from it
+ALTER TABLE users ADD COLUMN data_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,54 @@
+package Finance.Tracker.Finance.Tracker.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "management.server.port=0")
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class ActuatorSecurityTest {
+
+    @LocalServerPort
+    private int serverPort;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void prometheusIsNotOpenOnTheApiPort() {
+        ResponseEntity<String> response = get(serverPort, "/actuator/prometheus");
+
+        assertThat(response.getStatusCode().is2xxSuccessful()).isFalse();
+    }
+
+    @Test
+    void prometheusAndHealthAreOpenOnTheManagementPort() {
+        assertThat(get(managementPort, "/actuator/prometheus").getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(get(managementPort, "/actuator/health").getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void otherActuatorEndpointsNeedAToken() {
+        ResponseEntity<String> response = get(managementPort, "/actuator/metrics");
+
+        assertThat(response.getStatusCode().is2xxSuccessful()).isFalse();
+    }
+
+    private ResponseEntity<String> get(int port, String path) {
+        return restTemplate.getForEntity("http://localhost:" + port + path, String.class);
+    }
+}
@@ -0,0 +1,92 @@
+package Finance.Tracker.Finance.Tracker.controller;
+
+import Finance.Tracker.Finance.Tracker.model.User;
+import Finance.Tracker.Finance.Tracker.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Boots the whole application on the test profile (H2 in MySQL mode, query-budget.mode=fail).
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+abstract class ApiTestSupport {
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Registers a fresh user (with the default categories) and returns it with a bearer token.
+    protected SignedInUser signUp() throws Exception {
+        String username = "user" + UUID.randomUUID().toString().substring(0, 8);
+        String password = "secret123";
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "username", username,
+                                "email", username + "@example.com",
+                                "password", password,
+                                "firstName", "Test",
+                                "lastName", "User"))))
+                .andExpect(status().isOk());
+
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "username", username,
+                                "password", password))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode response = objectMapper.readTree(body);
+        User user = userRepository.findByUsername(username).orElseThrow();
+        return new SignedInUser(user, "Bearer " + response.get("token").asText());
+    }
+
+    protected ResultActions perform(SignedInUser user, MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request.header("Authorization", user.authorization()));
+    }
+
+    // Statements the last request to the given endpoint issued, as recorded by SqlStatementMetricsFilter.
+    protected long statementsOf(String method, String uri, Request request) throws Exception {
+        double before = statementTotal(method, uri);
+        request.run();
+        return Math.round(statementTotal(method, uri) - before);
+    }
+
+    private double statementTotal(String method, String uri) {
+        DistributionSummary summary = meterRegistry.find("http.server.requests.sql.statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .summary();
+        return summary != null ? summary.totalAmount() : 0;
+    }
+
+    protected interface Request {
+        void run() throws Exception;
+    }
+
+    protected record SignedInUser(User user, String authorization) {
+    }
+}
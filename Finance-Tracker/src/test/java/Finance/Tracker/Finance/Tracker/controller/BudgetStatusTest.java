@@ -0,0 +1,54 @@
+package Finance.Tracker.Finance.Tracker.controller;
+
+import Finance.Tracker.Finance.Tracker.dto.TransactionType;
+import Finance.Tracker.Finance.Tracker.model.Budget;
+import Finance.Tracker.Finance.Tracker.model.Category;
+import Finance.Tracker.Finance.Tracker.repository.BudgetRepository;
+import Finance.Tracker.Finance.Tracker.repository.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class BudgetStatusTest extends ApiTestSupport {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Test
+    void budgetBelowOneCentIsRejected() throws Exception {
+        SignedInUser user = signUp();
+        Category category = expenseCategory(user);
+
+        perform(user, post("/api/budgets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "categoryId", category.getId(), "amount", 0.004, "month", 3, "year", 2025))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void zeroBudgetHasNoPercentUsed() throws Exception {
+        SignedInUser user = signUp();
+        Category category = expenseCategory(user);
+        budgetRepository.save(new Budget(user.user(), category, BigDecimal.ZERO, 3, 2025));
+
+        perform(user, get("/api/budgets/status").param("month", "3").param("year", "2025"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].amount").value(0))
+                .andExpect(jsonPath("$[0].percentUsed").doesNotExist());
+    }
+
+    private Category expenseCategory(SignedInUser user) {
+        return categoryRepository.findByUserIdAndType(user.user().getId(), TransactionType.EXPENSE).get(0);
+    }
+}
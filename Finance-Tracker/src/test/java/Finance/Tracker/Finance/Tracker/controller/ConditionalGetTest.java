@@ -0,0 +1,111 @@
+package Finance.Tracker.Finance.Tracker.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ConditionalGetTest extends ApiTestSupport {
+
+    @Test
+    void writesChangeTheStoredVersionAndTheETag() throws Exception {
+        SignedInUser user = signUp();
+        long versionAfterSignUp = storedVersion(user);
+
+        String etag = perform(user, get("/api/categories"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+        perform(user, get("/api/categories").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        perform(user, post("/api/categories")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Pets", "type", "EXPENSE"))))
+                .andExpect(status().isOk());
+
+        assertThat(storedVersion(user)).isEqualTo(versionAfterSignUp + 1);
+        String newEtag = perform(user, get("/api/categories").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    void budgetWritesChangeTheETag() throws Exception {
+        SignedInUser user = signUp();
+        long categoryId = firstCategoryId(user);
+        String etag = etagOf(user, "/api/budgets");
+
+        String body = perform(user, post("/api/budgets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "categoryId", categoryId, "amount", 300, "month", 3, "year", 2025))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String afterCreate = etagOf(user, "/api/budgets");
+        assertThat(afterCreate).isNotEqualTo(etag);
+
+        long budgetId = objectMapper.readTree(body).get("id").asLong();
+        perform(user, delete("/api/budgets/" + budgetId)).andExpect(status().isNoContent());
+        assertThat(etagOf(user, "/api/budgets")).isNotEqualTo(afterCreate);
+    }
+
+    @Test
+    void categoryWritesChangeTheETag() throws Exception {
+        SignedInUser user = signUp();
+        long categoryId = firstCategoryId(user);
+        String etag = etagOf(user, "/api/categories");
+
+        perform(user, put("/api/categories/" + categoryId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Renamed", "type", "EXPENSE"))))
+                .andExpect(status().isOk());
+        String afterUpdate = etagOf(user, "/api/categories");
+        assertThat(afterUpdate).isNotEqualTo(etag);
+
+        perform(user, delete("/api/categories/" + categoryId)).andExpect(status().isNoContent());
+        assertThat(etagOf(user, "/api/categories")).isNotEqualTo(afterUpdate);
+    }
+
+    @Test
+    void failedWriteLeavesTheVersionAlone() throws Exception {
+        SignedInUser user = signUp();
+        long version = storedVersion(user);
+
+        perform(user, post("/api/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "categoryId", Long.MAX_VALUE, "amount", 10, "type", "EXPENSE",
+                                "transactionDate", "2025-03-01"))))
+                .andExpect(status().isNotFound());
+        perform(user, delete("/api/transactions/" + Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+
+        assertThat(storedVersion(user)).isEqualTo(version);
+    }
+
+    private String etagOf(SignedInUser user, String path) throws Exception {
+        return perform(user, get(path))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private long firstCategoryId(SignedInUser user) throws Exception {
+        String body = perform(user, get("/api/categories"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get(0).get("id").asLong();
+    }
+
+    private long storedVersion(SignedInUser user) {
+        return userRepository.findDataVersionById(user.user().getId()).orElseThrow();
+    }
+}
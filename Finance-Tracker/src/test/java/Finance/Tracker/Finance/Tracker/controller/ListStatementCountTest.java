@@ -0,0 +1,88 @@
+package Finance.Tracker.Finance.Tracker.controller;
+
+import Finance.Tracker.Finance.Tracker.dto.TransactionType;
+import Finance.Tracker.Finance.Tracker.model.Budget;
+import Finance.Tracker.Finance.Tracker.model.Category;
+import Finance.Tracker.Finance.Tracker.model.Transaction;
+import Finance.Tracker.Finance.Tracker.repository.BudgetRepository;
+import Finance.Tracker.Finance.Tracker.repository.CategoryRepository;
+import Finance.Tracker.Finance.Tracker.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The list endpoints must not go back to the database per row (lazy category loads): the
+// statement count stays the same whether the user has a handful of rows or a full page.
+class ListStatementCountTest extends ApiTestSupport {
+
+    private static final int ROWS = 50;
+
+    // ConditionalGetInterceptor reads users.data_version to build the ETag.
+    private static final int VERSION_READ = 1;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Test
+    void transactionListRunsOneQueryPlusTheCount() throws Exception {
+        SignedInUser user = signUp();
+        List<Category> categories = categoryRepository.findByUserIdOrderByName(user.user().getId());
+        List<Transaction> transactions = new ArrayList<>();
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < ROWS; i++) {
+            Category category = categories.get(i % categories.size());
+            transactions.add(new Transaction(user.user(), category, BigDecimal.valueOf(10 + i),
+                    "Row " + i, category.getType(), date.plusDays(i)));
+        }
+        transactionRepository.saveAll(transactions);
+
+        long statements = statementsOf("GET", "/api/transactions", () ->
+                perform(user, get("/api/transactions").param("size", String.valueOf(ROWS)))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.content.length()").value(ROWS))
+                        .andExpect(jsonPath("$.content[0].categoryName").isNotEmpty()));
+
+        assertThat(statements).isEqualTo(VERSION_READ + 2);
+    }
+
+    @Test
+    void budgetListRunsOneQuery() throws Exception {
+        SignedInUser user = signUp();
+        List<Category> expenseCategories = categoryRepository.findByUserIdAndType(
+                user.user().getId(), TransactionType.EXPENSE);
+        List<Budget> budgets = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            for (Category category : expenseCategories) {
+                budgets.add(new Budget(user.user(), category, BigDecimal.valueOf(500), month, 2025));
+            }
+        }
+        budgetRepository.saveAll(budgets);
+
+        long allBudgets = statementsOf("GET", "/api/budgets", () ->
+                perform(user, get("/api/budgets"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(budgets.size()))
+                        .andExpect(jsonPath("$[0].categoryName").isNotEmpty()));
+        long oneMonth = statementsOf("GET", "/api/budgets", () ->
+                perform(user, get("/api/budgets").param("month", "3").param("year", "2025"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.length()").value(expenseCategories.size())));
+
+        assertThat(allBudgets).isEqualTo(VERSION_READ + 1);
+        assertThat(oneMonth).isEqualTo(VERSION_READ + 1);
+    }
+}
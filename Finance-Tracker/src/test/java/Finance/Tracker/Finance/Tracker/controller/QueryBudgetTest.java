@@ -0,0 +1,100 @@
+package Finance.Tracker.Finance.Tracker.controller;
+
+import Finance.Tracker.Finance.Tracker.config.QueryBudget;
+import Finance.Tracker.Finance.Tracker.repository.CategoryRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Runs with query-budget.mode=fail (test profile): an endpoint that issues more statements than
+// its @QueryBudget answers 500 instead of only logging, so these requests pin the budgets.
+@Import(QueryBudgetTest.OverBudgetController.class)
+class QueryBudgetTest extends ApiTestSupport {
+
+    private SignedInUser user;
+
+    @BeforeEach
+    void createBudgetsAndSpending() throws Exception {
+        user = signUp();
+        JsonNode categories = objectMapper.readTree(perform(user, get("/api/categories"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        for (JsonNode category : categories) {
+            if (!"EXPENSE".equals(category.get("type").asText())) {
+                continue;
+            }
+            long categoryId = category.get("id").asLong();
+            perform(user, post("/api/budgets")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of(
+                            "categoryId", categoryId, "amount", 400, "month", 3, "year", 2025))))
+                    .andExpect(status().isOk());
+            perform(user, post("/api/transactions")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of(
+                            "categoryId", categoryId, "amount", 100, "type", "EXPENSE",
+                            "description", "March spending", "transactionDate", "2025-03-10"))))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    void transactionListsStayWithinBudget() throws Exception {
+        perform(user, get("/api/transactions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].categoryName").isNotEmpty());
+        perform(user, get("/api/transactions").param("type", "EXPENSE").param("minAmount", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].categoryName").isNotEmpty());
+    }
+
+    @Test
+    void budgetListsStayWithinBudget() throws Exception {
+        perform(user, get("/api/budgets"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].categoryName").isNotEmpty());
+        perform(user, get("/api/budgets").param("month", "3").param("year", "2025"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].categoryName").isNotEmpty());
+    }
+
+    @Test
+    void budgetStatusStaysWithinBudget() throws Exception {
+        perform(user, get("/api/budgets/status").param("month", "3").param("year", "2025"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].spent").value(100.0))
+                .andExpect(jsonPath("$[0].percentUsed").value(25.0));
+    }
+
+    @Test
+    void endpointOverItsBudgetFails() throws Exception {
+        perform(user, get("/api/test/over-budget"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.error").value("Query Budget Exceeded"));
+    }
+
+    // Issues two statements against a budget of one.
+    @RestController
+    static class OverBudgetController {
+
+        @Autowired
+        private CategoryRepository categoryRepository;
+
+        @GetMapping("/api/test/over-budget")
+        @QueryBudget(1)
+        public long countTwice() {
+            return categoryRepository.count() + categoryRepository.count();
+        }
+    }
+}
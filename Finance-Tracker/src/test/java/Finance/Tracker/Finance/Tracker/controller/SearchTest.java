@@ -0,0 +1,140 @@
+package Finance.Tracker.Finance.Tracker.controller;
+
+import Finance.Tracker.Finance.Tracker.dto.TransactionType;
+import Finance.Tracker.Finance.Tracker.model.Category;
+import Finance.Tracker.Finance.Tracker.model.Transaction;
+import Finance.Tracker.Finance.Tracker.repository.CategoryRepository;
+import Finance.Tracker.Finance.Tracker.repository.TransactionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Single writes reach the index at the next scheduled refresh (search.index.refresh-interval-ms
+// is short on the test profile), so those assertions poll; a reindex is visible on return.
+class SearchTest extends ApiTestSupport {
+
+    private static final long REFRESH_TIMEOUT_MS = 5000;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    void createUpdateAndDeleteAreReflectedInResults() throws Exception {
+        SignedInUser user = signUp();
+        long id = create(user, "Coffee beans from the market");
+        awaitResults(user, "coffee", List.of(id));
+
+        perform(user, put("/api/transactions/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(transactionBody(user, "Train ticket"))))
+                .andExpect(status().isOk());
+        awaitResults(user, "train", List.of(id));
+        assertThat(searchIds(user, "coffee")).isEmpty();
+
+        perform(user, delete("/api/transactions/" + id)).andExpect(status().isNoContent());
+        awaitResults(user, "train", List.of());
+    }
+
+    @Test
+    void lastWordMatchesAsPrefix() throws Exception {
+        SignedInUser user = signUp();
+        long beans = create(user, "Coffee beans");
+        long grinder = create(user, "Coffee grinder");
+        awaitResults(user, "coffee gri", List.of(grinder));
+
+        assertThat(searchIds(user, "coffee bea")).containsExactly(beans);
+        assertThat(searchIds(user, "coffee bea ")).isEmpty();
+    }
+
+    @Test
+    void usersOnlySeeTheirOwnTransactions() throws Exception {
+        SignedInUser alice = signUp();
+        SignedInUser bob = signUp();
+        long alicesRent = create(alice, "Rent for March");
+        long bobsRent = create(bob, "Rent for March");
+
+        awaitResults(alice, "rent", List.of(alicesRent));
+        awaitResults(bob, "rent", List.of(bobsRent));
+    }
+
+    @Test
+    void reindexPicksUpRowsTheIndexMissed() throws Exception {
+        SignedInUser user = signUp();
+        long indexed = create(user, "Gym membership");
+        awaitResults(user, "gym", List.of(indexed));
+
+        // Written straight to the repository, so neither change reaches the index on its own.
+        Category category = expenseCategory(user);
+        Transaction missed = transactionRepository.save(new Transaction(user.user(), category,
+                BigDecimal.TEN, "Gym shoes", TransactionType.EXPENSE, LocalDate.of(2025, 3, 1)));
+        transactionRepository.deleteById(indexed);
+        assertThat(searchIds(user, "gym")).isEmpty();
+
+        perform(user, post("/api/transactions/search/reindex")).andExpect(status().isNoContent());
+
+        JsonNode page = search(user, "gym");
+        assertThat(ids(page)).containsExactly(missed.getId());
+        assertThat(page.get("totalElements").asLong()).isEqualTo(1);
+    }
+
+    private long create(SignedInUser user, String description) throws Exception {
+        String body = perform(user, post("/api/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(transactionBody(user, description))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private Map<String, Object> transactionBody(SignedInUser user, String description) {
+        return Map.of("categoryId", expenseCategory(user).getId(), "amount", 12.5, "description", description,
+                "type", "EXPENSE", "transactionDate", "2025-03-01");
+    }
+
+    private void awaitResults(SignedInUser user, String query, List<Long> expected) throws Exception {
+        long deadline = System.currentTimeMillis() + REFRESH_TIMEOUT_MS;
+        List<Long> ids = searchIds(user, query);
+        while (!ids.equals(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            ids = searchIds(user, query);
+        }
+        assertThat(ids).isEqualTo(expected);
+    }
+
+    private List<Long> searchIds(SignedInUser user, String query) throws Exception {
+        return ids(search(user, query));
+    }
+
+    private JsonNode search(SignedInUser user, String query) throws Exception {
+        String body = perform(user, get("/api/transactions/search").param("q", query))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static List<Long> ids(JsonNode page) {
+        List<Long> ids = new ArrayList<>();
+        page.get("content").forEach(row -> ids.add(row.get("id").asLong()));
+        return ids;
+    }
+
+    private Category expenseCategory(SignedInUser user) {
+        return categoryRepository.findByUserIdAndType(user.user().getId(), TransactionType.EXPENSE).get(0);
+    }
+}
@@ -0,0 +1,94 @@
+package Finance.Tracker.Finance.Tracker.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the hot repository queries on the migrated schema, captures the SQL Hibernate generates
+ * and checks that H2's plan for it uses the index V2 added for that query. A renamed or
+ * dropped index, or a query that no longer matches its leading columns, fails here.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:explain;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR,MONTH,VALUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.locations=classpath:db/migration,classpath:db/explain",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "Finance.Tracker.Finance.Tracker.repository.CapturingStatementInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class IndexUsageTest {
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearCapturedStatements() {
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    void transactionListingUsesUserDateIndex() {
+        transactionRepository.findByUserIdOrderByTransactionDateDesc(1L, PageRequest.of(0, 20));
+
+        assertThat(planOf("from transactions")).contains("idx_transactions_user_date");
+    }
+
+    @Test
+    void categoryNameLookupUsesUserNameKey() {
+        categoryRepository.existsByNameAndUserId("Food", 1L);
+
+        assertThat(planOf("from categories")).contains("uk_categories_user_name");
+    }
+
+    @Test
+    void budgetLookupUsesUserPeriodCategoryKey() {
+        budgetRepository.findByUserIdAndCategoryIdAndMonthAndYear(1L, 2L, 3, 2025);
+
+        assertThat(planOf("from budgets")).contains("uk_budgets_user_period_category");
+    }
+
+    @Test
+    void monthlyBudgetListingUsesUserPeriodPrefix() {
+        budgetRepository.findByUserIdAndMonthAndYear(1L, 3, 2025);
+
+        assertThat(planOf("from budgets")).contains("uk_budgets_user_period_category");
+    }
+
+    // EXPLAINs the first captured statement on the given table. Every parameter is bound to 1;
+    // H2 plans on column statistics, not on the values.
+    private String planOf(String fromClause) {
+        List<String> statements = CapturingStatementInspector.statements();
+        String sql = statements.stream()
+                .filter(statement -> statement.toLowerCase().contains(fromClause))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No statement " + fromClause + " in " + statements));
+        return jdbcTemplate.execute("EXPLAIN " + sql, (java.sql.PreparedStatement ps) -> {
+            int parameters = ps.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                ps.setLong(i, 1L);
+            }
+            try (var rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getString(1);
+            }
+        });
+    }
+}
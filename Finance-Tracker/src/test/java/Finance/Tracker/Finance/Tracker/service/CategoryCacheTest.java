@@ -0,0 +1,52 @@
+package Finance.Tracker.Finance.Tracker.service;
+
+import Finance.Tracker.Finance.Tracker.dto.CategoryDto;
+import Finance.Tracker.Finance.Tracker.dto.TransactionType;
+import Finance.Tracker.Finance.Tracker.model.Category;
+import Finance.Tracker.Finance.Tracker.model.User;
+import Finance.Tracker.Finance.Tracker.repository.CategoryRepository;
+import Finance.Tracker.Finance.Tracker.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CategoryCacheTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void readerDuringAnOpenWriteDoesNotKeepTheOldList() {
+        String name = "cache" + UUID.randomUUID().toString().substring(0, 8);
+        User user = userRepository.save(new User(name, name + "@example.com", "hash", "Cache", "Test"));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            categoryRepository.save(new Category("Pets", TransactionType.EXPENSE, user));
+            categoryService.evict(user.getId());
+            // Another request loads the list before the write commits and sees no categories.
+            assertThat(CompletableFuture.supplyAsync(() -> categoryService.getAllCategories(user.getId())).join())
+                    .isEmpty();
+        });
+
+        assertThat(categoryService.getAllCategories(user.getId()))
+                .extracting(CategoryDto::getName)
+                .containsExactly("Pets");
+    }
+}
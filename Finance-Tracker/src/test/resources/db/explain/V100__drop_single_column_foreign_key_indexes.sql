@@ -0,0 +1,9 @@
+-- H2 cannot use an equality prefix to satisfy ORDER BY, so it scores the composite indexes no
+-- better than the single-column indexes it creates for the foreign keys, which MySQL would not
+-- pick for these queries. Dropping the constraints (and their indexes) leaves the plan to choose
+-- between the migration's indexes and a scan.
+ALTER TABLE transactions DROP CONSTRAINT fk_transactions_user;
+ALTER TABLE transactions DROP CONSTRAINT fk_transactions_category;
+ALTER TABLE budgets DROP CONSTRAINT fk_budgets_user;
+ALTER TABLE budgets DROP CONSTRAINT fk_budgets_category;
+ALTER TABLE categories DROP CONSTRAINT fk_categories_user;
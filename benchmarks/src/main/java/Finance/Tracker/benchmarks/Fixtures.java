@@ -0,0 +1,96 @@
+package Finance.Tracker.benchmarks;
+
+import Finance.Tracker.Finance.Tracker.dto.TransactionDto;
+import Finance.Tracker.Finance.Tracker.dto.TransactionType;
+import Finance.Tracker.Finance.Tracker.model.Category;
+import Finance.Tracker.Finance.Tracker.model.User;
+import Finance.Tracker.Finance.Tracker.security.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.ReflectionUtils;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Entities and beans built by hand, with the values application.properties would inject.
+public final class Fixtures {
+
+    public static final String JWT_SECRET = "mySecretKey123456789012345678901234567890";
+    public static final String PASSWORD = "correct horse battery staple";
+
+    private Fixtures() {}
+
+    public static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        set(jwtUtil, "jwtSecret", JWT_SECRET);
+        set(jwtUtil, "jwtExpirationMs", 86400000);
+        set(jwtUtil, "verifiedTokenCacheSize", 10000);
+        set(jwtUtil, "meterRegistry", new SimpleMeterRegistry());
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    public static User user() {
+        User user = new User("alice", "alice@example.com", "$2a$10$abcdefghijklmnopqrstuv", "Alice", "Smith");
+        user.setId(42L);
+        user.setTokenVersion(3);
+        return user;
+    }
+
+    public static Category category(User user) {
+        Category category = new Category("Groceries", TransactionType.EXPENSE, user);
+        category.setId(7L);
+        return category;
+    }
+
+    public static TransactionDto transactionDto(int i) {
+        return new TransactionDto((long) i + 1, new BigDecimal("42.50").add(BigDecimal.valueOf(i)),
+                "Weekly shop at the corner market #" + i, TransactionType.EXPENSE, 7L, "Groceries",
+                LocalDate.of(2025, 1, 1).plusDays(i % 365));
+    }
+
+    // The body of GET /api/transactions.
+    public static Page<TransactionDto> transactionPage(int size) {
+        List<TransactionDto> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(transactionDto(i));
+        }
+        return new PageImpl<>(content, PageRequest.of(0, size), 10_000);
+    }
+
+    // Boot's default mapper settings for the formats ResponseFormatConfig negotiates.
+    public static ObjectMapper objectMapper(String format) {
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        return builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+    }
+
+    // A repository whose only working method is the one named, which returns the given result.
+    public static <T> T repositoryReturning(Class<T> type, String methodName, Object result) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> {
+                    if (method.getName().equals(methodName)) {
+                        return result;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }));
+    }
+
+    static void set(Object target, String fieldName, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
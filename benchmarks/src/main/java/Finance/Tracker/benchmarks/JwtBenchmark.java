@@ -0,0 +1,68 @@
+package Finance.Tracker.benchmarks;
+
+import Finance.Tracker.Finance.Tracker.security.JwtUtil;
+import Finance.Tracker.Finance.Tracker.security.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil as the authentication filter uses it. parseCached is the path every request after
+ * the first takes for a token; parseUncached is the signature check done on a cache miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtParser parser;
+    private UserDetailsImpl principal;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = Fixtures.jwtUtil();
+        parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Fixtures.JWT_SECRET.getBytes()))
+                .build();
+        principal = new UserDetailsImpl(42L, "alice", "alice@example.com", null, 3);
+        token = jwtUtil.generateJwtToken(principal);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtil.generateJwtToken(principal);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtUtil.validateJwtToken(token);
+    }
+
+    @Benchmark
+    public Optional<Claims> parseCached() {
+        return jwtUtil.parseJwtToken(token);
+    }
+
+    @Benchmark
+    public Claims parseUncached() {
+        return parser.parseClaimsJws(token).getBody();
+    }
+}
@@ -0,0 +1,69 @@
+package Finance.Tracker.benchmarks;
+
+import Finance.Tracker.Finance.Tracker.dto.BudgetDto;
+import Finance.Tracker.Finance.Tracker.dto.TransactionDto;
+import Finance.Tracker.Finance.Tracker.dto.TransactionType;
+import Finance.Tracker.Finance.Tracker.model.Budget;
+import Finance.Tracker.Finance.Tracker.model.Category;
+import Finance.Tracker.Finance.Tracker.model.Transaction;
+import Finance.Tracker.Finance.Tracker.model.User;
+import Finance.Tracker.Finance.Tracker.repository.BudgetRepository;
+import Finance.Tracker.Finance.Tracker.repository.TransactionRepository;
+import Finance.Tracker.Finance.Tracker.service.BudgetService;
+import Finance.Tracker.Finance.Tracker.service.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Entity-to-DTO mapping through the services' public lookups. The repositories hand back a
+// prebuilt entity, so the time is the mapping plus a proxy call and the Optional.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private TransactionService transactionService;
+    private BudgetService budgetService;
+
+    @Setup
+    public void setUp() {
+        User user = Fixtures.user();
+        Category category = Fixtures.category(user);
+        Transaction transaction = new Transaction(user, category, new BigDecimal("42.50"),
+                "Weekly shop at the corner market", TransactionType.EXPENSE, LocalDate.of(2025, 3, 14));
+        transaction.setId(1001L);
+        Budget budget = new Budget(user, category, new BigDecimal("400.00"), 3, 2025);
+        budget.setId(501L);
+
+        transactionService = new TransactionService();
+        Fixtures.set(transactionService, "transactionRepository", Fixtures.repositoryReturning(
+                TransactionRepository.class, "findByIdAndUserId", Optional.of(transaction)));
+        budgetService = new BudgetService();
+        Fixtures.set(budgetService, "budgetRepository", Fixtures.repositoryReturning(
+                BudgetRepository.class, "findByIdAndUserId", Optional.of(budget)));
+    }
+
+    @Benchmark
+    public Optional<TransactionDto> transactionToDto() {
+        return transactionService.getTransactionById(42L, 1001L);
+    }
+
+    @Benchmark
+    public Optional<BudgetDto> budgetToDto() {
+        return budgetService.getBudgetById(42L, 501L);
+    }
+}
@@ -0,0 +1,32 @@
+package Finance.Tracker.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+// Bytes on the wire for the pages PageSerializationBenchmark times:
+// java -cp target/benchmarks.jar Finance.Tracker.benchmarks.PayloadSizeReport
+public final class PayloadSizeReport {
+
+    private PayloadSizeReport() {}
+
+    public static void main(String[] args) throws IOException {
+        System.out.printf("%-6s %-6s %10s %10s%n", "rows", "format", "bytes", "gzip");
+        for (int rows : new int[] {20, 200, 2000}) {
+            for (String format : new String[] {"json", "smile", "cbor"}) {
+                ObjectMapper objectMapper = Fixtures.objectMapper(format);
+                byte[] body = objectMapper.writeValueAsBytes(Fixtures.transactionPage(rows));
+                System.out.printf("%-6d %-6s %10d %10d%n", rows, format, body.length, gzip(body).length);
+            }
+        }
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(body);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,47 @@
+package Finance.Tracker.benchmarks;
+
+import Finance.Tracker.Finance.Tracker.model.User;
+import Finance.Tracker.Finance.Tracker.security.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+// UserDetailsImpl as built for token-carrying requests (fromClaims) and at login (build).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrincipalBenchmark {
+
+    private User user;
+    private Claims claims;
+
+    @Setup
+    public void setUp() {
+        user = Fixtures.user();
+        claims = Fixtures.jwtUtil()
+                .parseJwtToken(Fixtures.jwtUtil().generateJwtToken(UserDetailsImpl.build(user)))
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public UserDetailsImpl fromUser() {
+        return UserDetailsImpl.build(user);
+    }
+
+    @Benchmark
+    public UserDetailsImpl fromClaims() {
+        return UserDetailsImpl.fromClaims(claims);
+    }
+}
@@ -39,16 +39,21 @@ const Dashboard = () => {
       const currentMonth = currentDate.getMonth() + 1;
       const currentYear = currentDate.getFullYear();
       
-      const budgetsResponse = await budgetService.getBudgets(currentMonth, currentYear);
+      const [budgetsResponse, summaryResponse] = await Promise.all([
+        budgetService.getBudgetStatus(currentMonth, currentYear),
+        transactionService.getSummary(currentMonth, currentYear)
+      ]);
 
-      // Calculate summary from all transactions (first page gives us totals)
-      const allTransactions = transactionsResponse.content || [];
-      
-      const summary = calculateSummary(allTransactions);
+      const recentTransactions = transactionsResponse.content || [];
 
       setDashboardData({
-        recentTransactions: allTransactions,
-        summary,
+        recentTransactions,
+        summary: {
+          totalIncome: Number(summaryResponse.totalIncome),
+          totalExpenses: Number(summaryResponse.totalExpenses),
+          balance: Number(summaryResponse.balance),
+          transactionCount: summaryResponse.transactionCount
+        },
         budgets: budgetsResponse || []
       });
     } catch (error) {
@@ -58,27 +63,6 @@ const Dashboard = () => {
     }
   };
 
-  const calculateSummary = (transactions) => {
-    const summary = {
-      totalIncome: 0,
-      totalExpenses: 0,
-      balance: 0,
-      transactionCount: transactions.length
-    };
-
-    transactions.forEach(transaction => {
-      if (transaction.type === 'INCOME') {
-        summary.totalIncome += parseFloat(transaction.amount);
-      } else {
-        summary.totalExpenses += parseFloat(transaction.amount);
-      }
-    });
-
-    summary.balance = summary.totalIncome - summary.totalExpenses;
-    
-    return summary;
-  };
-
   const formatCurrency = (amount) => {
     return new Intl.NumberFormat('en-US', {
       style: 'currency',
@@ -166,7 +150,7 @@ const Dashboard = () => {
                       <div className="budget-info">
                         <div className="budget-category">{budget.categoryName}</div>
                         <div className="budget-amount">
-                          Budget: {formatCurrency(budget.amount)}
+                          Spent: {formatCurrency(budget.spent)} of {formatCurrency(budget.amount)} ({budget.percentUsed}%)
                         </div>
                       </div>
                     </div>
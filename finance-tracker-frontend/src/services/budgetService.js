@@ -15,6 +15,20 @@ const budgetService = {
     }
   },
 
+  // Get budgets with spent/remaining amounts for a month (defaults to the current month)
+  getBudgetStatus: async (month = null, year = null) => {
+    try {
+      const params = {};
+      if (month !== null) params.month = month;
+      if (year !== null) params.year = year;
+
+      const response = await apiHelper.get('/budgets/status', params);
+      return response;
+    } catch (error) {
+      throw error;
+    }
+  },
+
   // Get budget by ID
   getBudget: async (id) => {
     try {
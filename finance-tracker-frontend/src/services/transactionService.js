@@ -10,7 +10,11 @@ const transactionService = {
         ...(params.startDate && { startDate: params.startDate }),
         ...(params.endDate && { endDate: params.endDate }),
         ...(params.categoryId && { categoryId: params.categoryId }),
-        ...(params.type && { type: params.type })
+        ...(params.categoryIds?.length && { categoryIds: params.categoryIds.join(',') }),
+        ...(params.type && { type: params.type }),
+        ...(params.minAmount && { minAmount: params.minAmount }),
+        ...(params.maxAmount && { maxAmount: params.maxAmount }),
+        ...(params.description && { description: params.description })
       };
       
       const response = await apiHelper.get('/transactions', queryParams);
@@ -20,6 +24,53 @@ const transactionService = {
     }
   },
 
+  // Get transactions after an opaque cursor (keyset pagination, no total count)
+  scrollTransactions: async (params = {}) => {
+    try {
+      const queryParams = {
+        size: params.size || 20,
+        ...(params.cursor && { cursor: params.cursor }),
+        ...(params.startDate && { startDate: params.startDate }),
+        ...(params.endDate && { endDate: params.endDate }),
+        ...(params.categoryId && { categoryId: params.categoryId }),
+        ...(params.categoryIds?.length && { categoryIds: params.categoryIds.join(',') }),
+        ...(params.type && { type: params.type }),
+        ...(params.minAmount && { minAmount: params.minAmount }),
+        ...(params.maxAmount && { maxAmount: params.maxAmount }),
+        ...(params.description && { description: params.description })
+      };
+
+      const response = await apiHelper.get('/transactions/scroll', queryParams);
+      return response;
+    } catch (error) {
+      throw error;
+    }
+  },
+
+  // Full-text search over descriptions, best match first
+  searchTransactions: async (query, page = 0, size = 20) => {
+    try {
+      const response = await apiHelper.get('/transactions/search', { q: query, page, size });
+      return response;
+    } catch (error) {
+      throw error;
+    }
+  },
+
+  // Get monthly income/expense totals (defaults to the current month)
+  getSummary: async (month = null, year = null) => {
+    try {
+      const params = {};
+      if (month !== null) params.month = month;
+      if (year !== null) params.year = year;
+
+      const response = await apiHelper.get('/transactions/summary', params);
+      return response;
+    } catch (error) {
+      throw error;
+    }
+  },
+
   // Get transaction by ID
   getTransaction: async (id) => {
     try {
@@ -0,0 +1,65 @@
+package Finance.Tracker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+// Thin JSON client over java.net.http; call() is for setup and fails loudly, timed() is for load.
+public class ApiClient {
+
+    private final String baseUrl;
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public JsonNode call(String method, String path, String token, Object body) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request(method, path, token, body), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(method + " " + path + " failed: " + response.statusCode() + " " + response.body());
+        }
+        return response.body().isEmpty() ? mapper.nullNode() : mapper.readTree(response.body());
+    }
+
+    // Sends the request and records its latency under the given endpoint label.
+    public JsonNode timed(LatencyRecorder recorder, String endpoint, String method, String path, String token, Object body)
+            throws InterruptedException {
+        long begin = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request(method, path, token, body), HttpResponse.BodyHandlers.ofString());
+            long elapsed = System.nanoTime() - begin;
+            if (response.statusCode() >= 400) {
+                recorder.error(endpoint);
+                return null;
+            }
+            recorder.record(endpoint, elapsed);
+            return response.body().isEmpty() ? mapper.nullNode() : mapper.readTree(response.body());
+        } catch (IOException e) {
+            recorder.error(endpoint);
+            return null;
+        }
+    }
+
+    private HttpRequest request(String method, String path, String token, Object body) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+}
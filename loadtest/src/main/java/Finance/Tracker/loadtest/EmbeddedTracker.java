@@ -0,0 +1,51 @@
+package Finance.Tracker.loadtest;
+
+import Finance.Tracker.Finance.Tracker.PersonalFinanceTrackerApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The application running in this JVM on a random port, backed by a private in-memory H2
+ * database in MySQL mode (schema from the Flyway migrations) and a temporary search index.
+ * Nothing outside the process is needed.
+ */
+public class EmbeddedTracker implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final String baseUrl;
+
+    public EmbeddedTracker(String name, boolean virtualThreads, Options options) throws IOException {
+        Path indexDir = Files.createTempDirectory("loadtest-index");
+        context = new SpringApplicationBuilder(PersonalFinanceTrackerApplication.class, LatencyInjectingConfig.class)
+                .run(
+                        "--server.port=0",
+                        "--management.server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--server.tomcat.threads.max=" + options.get("tomcat-threads", "200"),
+                        "--spring.datasource.url=jdbc:h2:mem:" + name
+                                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR,MONTH,VALUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.hikari.maximum-pool-size=" + options.get("pool-size", "10"),
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.show-sql=false",
+                        "--search.index.dir=" + indexDir,
+                        "--rate-limit.enabled=" + options.get("rate-limit", "false"),
+                        "--loadtest.db-latency-ms=" + options.get("db-latency-ms", "2"),
+                        "--logging.level.root=WARN");
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
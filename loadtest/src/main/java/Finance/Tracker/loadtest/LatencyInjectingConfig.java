@@ -0,0 +1,80 @@
+package Finance.Tracker.loadtest;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Puts an artificial round-trip delay under the connection pool: every statement execution,
+ * commit and rollback sleeps first. An in-memory H2 answers in microseconds, which hides the
+ * cost of blocking a request thread on the database; the delay stands in for the network hop
+ * to MySQL.
+ */
+@Configuration
+public class LatencyInjectingConfig {
+
+    private static final Set<String> ROUND_TRIPS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch",
+            "executeLargeBatch", "commit", "rollback");
+
+    @Bean
+    public static BeanPostProcessor latencyInjectingPostProcessor(
+            @Value("${loadtest.db-latency-ms:0}") long latencyMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (latencyMs > 0 && bean instanceof HikariDataSource hikari) {
+                    JdbcDataSource h2 = new JdbcDataSource();
+                    h2.setURL(hikari.getJdbcUrl());
+                    h2.setUser(hikari.getUsername());
+                    h2.setPassword(hikari.getPassword());
+                    // Hikari opens its physical connections through this instead of the driver.
+                    hikari.setDataSource(new DelegatingDataSource(h2) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return delayed(Connection.class, super.getConnection(), latencyMs);
+                        }
+                    });
+                }
+                return bean;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T delayed(Class<T> type, T target, long latencyMs) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            if (ROUND_TRIPS.contains(method.getName())) {
+                Thread.sleep(latencyMs);
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            if (result instanceof CallableStatement statement) {
+                return delayed(CallableStatement.class, statement, latencyMs);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return delayed(PreparedStatement.class, statement, latencyMs);
+            }
+            if (result instanceof Statement statement) {
+                return delayed(Statement.class, statement, latencyMs);
+            }
+            return result;
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package Finance.Tracker.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Per-endpoint latencies for one virtual user; merged into a report after the run.
+public class LatencyRecorder {
+
+    private final Map<String, Series> series = new TreeMap<>();
+
+    public void record(String endpoint, long nanos) {
+        series.computeIfAbsent(endpoint, e -> new Series()).add(nanos);
+    }
+
+    public void error(String endpoint) {
+        series.computeIfAbsent(endpoint, e -> new Series()).errors++;
+    }
+
+    public void mergeInto(Map<String, Series> target) {
+        series.forEach((endpoint, own) -> target.computeIfAbsent(endpoint, e -> new Series()).addAll(own));
+    }
+
+    public static class Series {
+        private long[] values = new long[256];
+        private int size;
+        private long errors;
+        private boolean sorted;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+            sorted = false;
+        }
+
+        void addAll(Series other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+            errors += other.errors;
+            sorted = false;
+        }
+
+        public int count() {
+            return size;
+        }
+
+        public long errors() {
+            return errors;
+        }
+
+        public double percentileMillis(double p) {
+            if (size == 0) {
+                return 0;
+            }
+            if (!sorted) {
+                Arrays.sort(values, 0, size);
+                sorted = true;
+            }
+            int index = (int) Math.ceil(p / 100.0 * size) - 1;
+            return values[Math.max(0, Math.min(index, size - 1))] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package Finance.Tracker.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.File;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * End-to-end load test: boots the application against an in-memory MySQL-mode H2 database,
+ * seeds synthetic tenants with a year of history, then has many virtual users run a weighted
+ * mix of scenarios and reports throughput and latency percentiles per endpoint. Runs offline.
+ *
+ * <pre>
+ * (cd ../Finance-Tracker && mvn -q install -DskipTests)
+ * mvn -q compile exec:java -Dexec.mainClass=Finance.Tracker.loadtest.LoadHarness \
+ *     -Dexec.args="--users=50 --vus=200 --duration=60"
+ * </pre>
+ *
+ * Options: --users (tenants, default 20), --months (history per tenant, default 12),
+ * --expenses-per-month (default 40), --seed (default 42), --vus (concurrent virtual users,
+ * default 100), --duration and --warmup (seconds, default 60 and 10), --think-ms (pause between
+ * scenarios, default 0), --mix (scenario weights, default login:5,list:30,filter:15,create:10,dashboard:40),
+ * --virtual (serve requests on virtual threads), --db-latency-ms (delay per statement,
+ * default 2), --pool-size (Hikari, default 10), --out (also write the report as JSON).
+ */
+public class LoadHarness {
+
+    private static final String DEFAULT_MIX = "login:5,list:30,filter:15,create:10,dashboard:40";
+
+    private final Options options;
+    private final Map<String, Integer> mix = new LinkedHashMap<>();
+    private int totalWeight;
+
+    private LoadHarness(Options options) {
+        this.options = options;
+        for (String entry : options.get("mix", DEFAULT_MIX).split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = Integer.parseInt(parts[1]);
+            if (!List.of("login", "list", "filter", "create", "dashboard").contains(parts[0])) {
+                throw new IllegalArgumentException("Unknown scenario: " + parts[0]);
+            }
+            mix.put(parts[0], weight);
+            totalWeight += weight;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadHarness(new Options(args)).run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        boolean virtual = Boolean.parseBoolean(options.get("virtual", "false"));
+        try (EmbeddedTracker tracker = new EmbeddedTracker("loadharness", virtual, options)) {
+            ApiClient api = new ApiClient(tracker.getBaseUrl());
+            int users = options.getInt("users", 20);
+            System.out.printf("seeding %d tenants%n", users);
+            long seedStart = System.nanoTime();
+            List<Tenant> tenants = new TenantSeeder(api, options.getLong("seed", 42)).seed("tenant", users,
+                    options.getInt("months", 12), options.getInt("expenses-per-month", 40));
+            System.out.printf("seeded in %.1fs%n", (System.nanoTime() - seedStart) / 1e9);
+
+            System.out.printf("warming up for %ds%n", options.getInt("warmup", 10));
+            drive(api, tenants, options.getInt("warmup", 10));
+            System.out.printf("measuring for %ds with %d virtual users%n",
+                    options.getInt("duration", 60), options.getInt("vus", 100));
+            double seconds = options.getInt("duration", 60);
+            Map<String, LatencyRecorder.Series> report = drive(api, tenants, (int) seconds);
+            print(report, seconds, virtual);
+            String out = options.get("out", null);
+            if (out != null) {
+                write(report, seconds, new File(out));
+            }
+        }
+    }
+
+    private Map<String, LatencyRecorder.Series> drive(ApiClient api, List<Tenant> tenants, int seconds)
+            throws InterruptedException {
+        int vus = options.getInt("vus", 100);
+        long thinkMillis = options.getLong("think-ms", 0);
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        LatencyRecorder[] recorders = new LatencyRecorder[vus];
+
+        try (ExecutorService virtualUsers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int v = 0; v < vus; v++) {
+                LatencyRecorder recorder = recorders[v] = new LatencyRecorder();
+                Tenant tenant = tenants.get(v % tenants.size());
+                virtualUsers.submit(() -> {
+                    String token = tenant.token();
+                    while (System.nanoTime() < deadline) {
+                        String scenario = pick();
+                        if (scenario.equals("login")) {
+                            var login = api.timed(recorder, "POST /api/auth/login", "POST", "/api/auth/login", null,
+                                    Map.of("username", tenant.username(), "password", tenant.password()));
+                            if (login != null) {
+                                token = login.get("token").asText();
+                            }
+                        } else {
+                            runScenario(api, recorder, scenario, tenant, token);
+                        }
+                        if (thinkMillis > 0) {
+                            Thread.sleep(thinkMillis);
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+
+        Map<String, LatencyRecorder.Series> merged = new TreeMap<>();
+        for (LatencyRecorder recorder : recorders) {
+            recorder.mergeInto(merged);
+        }
+        return merged;
+    }
+
+    private void runScenario(ApiClient api, LatencyRecorder recorder, String scenario, Tenant tenant, String token)
+            throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate today = LocalDate.now();
+        switch (scenario) {
+            case "list" -> api.timed(recorder, "GET /api/transactions", "GET",
+                    "/api/transactions?page=" + random.nextInt(5) + "&size=20", token, null);
+            case "filter" -> {
+                LocalDate end = today.minusDays(random.nextInt(180));
+                Long categoryId = tenant.expenseCategoryIds().get(random.nextInt(tenant.expenseCategoryIds().size()));
+                api.timed(recorder, "GET /api/transactions (filtered)", "GET",
+                        "/api/transactions?page=0&size=20&categoryId=" + categoryId
+                                + "&startDate=" + end.minusDays(90) + "&endDate=" + end
+                                + "&minAmount=" + random.nextInt(50), token, null);
+            }
+            case "create" -> {
+                Map<String, Object> transaction = new LinkedHashMap<>();
+                transaction.put("categoryId",
+                        tenant.expenseCategoryIds().get(random.nextInt(tenant.expenseCategoryIds().size())));
+                transaction.put("amount", BigDecimal.valueOf(random.nextInt(100, 20000), 2));
+                transaction.put("description", "Load test purchase");
+                transaction.put("type", "EXPENSE");
+                transaction.put("transactionDate", today.minusDays(random.nextInt(30)).toString());
+                api.timed(recorder, "POST /api/transactions", "POST", "/api/transactions", token, transaction);
+            }
+            // The same three calls the dashboard page makes when it loads.
+            case "dashboard" -> {
+                String period = "month=" + today.getMonthValue() + "&year=" + today.getYear();
+                api.timed(recorder, "GET /api/transactions (recent)", "GET",
+                        "/api/transactions?page=0&size=5", token, null);
+                api.timed(recorder, "GET /api/budgets/status", "GET", "/api/budgets/status?" + period, token, null);
+                api.timed(recorder, "GET /api/transactions/summary", "GET",
+                        "/api/transactions/summary?" + period, token, null);
+            }
+            default -> throw new IllegalStateException(scenario);
+        }
+    }
+
+    private String pick() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private void print(Map<String, LatencyRecorder.Series> report, double seconds, boolean virtual) {
+        System.out.printf("%nusers=%s vus=%s duration=%.0fs virtual-threads=%s db-latency=%sms pool=%s mix=%s%n",
+                options.get("users", "20"), options.get("vus", "100"), seconds, virtual,
+                options.get("db-latency-ms", "2"), options.get("pool-size", "10"), options.get("mix", DEFAULT_MIX));
+        System.out.printf("%-34s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        LatencyRecorder.Series total = new LatencyRecorder.Series();
+        for (Map.Entry<String, LatencyRecorder.Series> entry : report.entrySet()) {
+            printRow(entry.getKey(), entry.getValue(), seconds);
+            total.addAll(entry.getValue());
+        }
+        printRow("total", total, seconds);
+    }
+
+    private void printRow(String label, LatencyRecorder.Series series, double seconds) {
+        System.out.printf(Locale.ROOT, "%-34s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                label, series.count(), series.errors(), series.count() / seconds, series.percentileMillis(50),
+                series.percentileMillis(90), series.percentileMillis(99), series.percentileMillis(100));
+    }
+
+    private void write(Map<String, LatencyRecorder.Series> report, double seconds, File file) throws Exception {
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        report.forEach((endpoint, series) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", endpoint);
+            row.put("requests", series.count());
+            row.put("errors", series.errors());
+            row.put("throughput", series.count() / seconds);
+            row.put("p50Ms", series.percentileMillis(50));
+            row.put("p90Ms", series.percentileMillis(90));
+            row.put("p99Ms", series.percentileMillis(99));
+            row.put("maxMs", series.percentileMillis(100));
+            endpoints.add(row);
+        });
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file, Map.of("durationSeconds", seconds, "endpoints", endpoints));
+    }
+}
@@ -0,0 +1,29 @@
+package Finance.Tracker.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// --name=value command-line options with defaults supplied at the point of use.
+public class Options {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    public Options(String[] args) {
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            values.put(parts[0], parts.length > 1 ? parts[1] : "true");
+        }
+    }
+
+    public String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    public int getInt(String name, int defaultValue) {
+        return Integer.parseInt(get(name, String.valueOf(defaultValue)));
+    }
+
+    public long getLong(String name, long defaultValue) {
+        return Long.parseLong(get(name, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,7 @@
+package Finance.Tracker.loadtest;
+
+import java.util.List;
+
+public record Tenant(String username, String password, String token,
+                     List<Long> expenseCategoryIds, List<Long> incomeCategoryIds) {
+}
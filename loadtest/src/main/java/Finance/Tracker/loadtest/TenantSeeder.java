@@ -0,0 +1,107 @@
+package Finance.Tracker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Creates synthetic tenants through the public API: each gets the default categories plus a
+ * couple of its own, budgets for the last three months, and a history of monthly salary and
+ * rent plus day-to-day spending. The same seed always produces the same data.
+ */
+public class TenantSeeder {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String[] MERCHANTS = {
+            "Grocery Mart", "Corner Cafe", "City Metro", "Fuel Station", "Cinema Plaza", "Online Store",
+            "Pharmacy", "Electric Company", "Water Utility", "Book Shop", "Pizza Place", "Gym Membership",
+    };
+
+    private final ApiClient api;
+    private final Random random;
+
+    public TenantSeeder(ApiClient api, long seed) {
+        this.api = api;
+        this.random = new Random(seed);
+    }
+
+    public List<Tenant> seed(String prefix, int users, int months, int expensesPerMonth)
+            throws IOException, InterruptedException {
+        List<Tenant> tenants = new ArrayList<>(users);
+        for (int u = 0; u < users; u++) {
+            tenants.add(seedTenant(prefix + u, months, expensesPerMonth));
+        }
+        return tenants;
+    }
+
+    private Tenant seedTenant(String username, int months, int expensesPerMonth)
+            throws IOException, InterruptedException {
+        String password = "loadtest-" + username;
+        api.call("POST", "/api/auth/register", null, Map.of(
+                "username", username, "email", username + "@loadtest.local", "password", password,
+                "firstName", "Load", "lastName", username));
+        String token = api.call("POST", "/api/auth/login", null,
+                Map.of("username", username, "password", password)).get("token").asText();
+
+        api.call("POST", "/api/categories", token, Map.of("name", "Subscriptions", "type", "EXPENSE"));
+        api.call("POST", "/api/categories", token, Map.of("name", "Side Projects", "type", "INCOME"));
+
+        List<Long> expenseIds = new ArrayList<>();
+        List<Long> incomeIds = new ArrayList<>();
+        for (JsonNode category : api.call("GET", "/api/categories", token, null)) {
+            (category.get("type").asText().equals("INCOME") ? incomeIds : expenseIds).add(category.get("id").asLong());
+        }
+
+        LocalDate today = LocalDate.now();
+        List<Map<String, Object>> operations = new ArrayList<>();
+        for (int m = months - 1; m >= 0; m--) {
+            LocalDate month = today.minusMonths(m).withDayOfMonth(1);
+            int days = m == 0 ? today.getDayOfMonth() : month.lengthOfMonth();
+            operations.add(create(incomeIds.get(0), amount(3000, 6000), "Monthly salary", "INCOME", month));
+            operations.add(create(expenseIds.get(0), amount(800, 1500), "Rent", "EXPENSE", month));
+            for (int i = 0; i < expensesPerMonth; i++) {
+                operations.add(create(expenseIds.get(random.nextInt(expenseIds.size())), amount(2, 150),
+                        MERCHANTS[random.nextInt(MERCHANTS.length)], "EXPENSE",
+                        month.plusDays(random.nextInt(days))));
+            }
+            if (random.nextInt(4) == 0) {
+                operations.add(create(incomeIds.get(random.nextInt(incomeIds.size())), amount(100, 900),
+                        "Freelance invoice", "INCOME", month.plusDays(random.nextInt(days))));
+            }
+        }
+        for (int start = 0; start < operations.size(); start += BATCH_SIZE) {
+            api.call("POST", "/api/transactions/batch", token,
+                    operations.subList(start, Math.min(start + BATCH_SIZE, operations.size())));
+        }
+
+        for (int m = 0; m < Math.min(3, months); m++) {
+            LocalDate month = today.minusMonths(m);
+            for (int b = 0; b < 3; b++) {
+                api.call("POST", "/api/budgets", token, Map.of(
+                        "categoryId", expenseIds.get(b), "amount", amount(200, 1200),
+                        "month", month.getMonthValue(), "year", month.getYear()));
+            }
+        }
+        return new Tenant(username, password, token, expenseIds, incomeIds);
+    }
+
+    private Map<String, Object> create(Long categoryId, BigDecimal amount, String description, String type, LocalDate date) {
+        Map<String, Object> transaction = new HashMap<>();
+        transaction.put("categoryId", categoryId);
+        transaction.put("amount", amount);
+        transaction.put("description", description);
+        transaction.put("type", type);
+        transaction.put("transactionDate", date.toString());
+        return Map.of("op", "CREATE", "transaction", transaction);
+    }
+
+    private BigDecimal amount(int min, int max) {
+        return BigDecimal.valueOf(min * 100L + random.nextInt((max - min) * 100), 2);
+    }
+}
@@ -0,0 +1,114 @@
+package Finance.Tracker.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Boots the application in-process on an in-memory H2 database (MySQL mode), once with
+ * platform request threads and once with virtual threads, drives both with the same
+ * closed-loop load, and prints throughput and latency percentiles side by side.
+ *
+ * <pre>
+ * (cd ../Finance-Tracker && mvn -q install -DskipTests)
+ * mvn -q compile exec:java -Dexec.args="--concurrency=400 --duration=30 --db-latency-ms=2"
+ * </pre>
+ *
+ * Options: --concurrency (clients in flight, default 400), --duration and --warmup (seconds,
+ * default 30 and 10), --users (tenants seeded, default 20), --transactions (per user, default
+ * 500), --db-latency-ms (delay per statement, default 2), --pool-size (Hikari, default 10),
+ * --tomcat-threads (platform mode, default 200), --modes (default platform,virtual).
+ */
+public class ThreadModeBenchmark {
+
+    private static final int MONTHS = 6;
+    private static final String[] PATHS = {
+            "/api/transactions?page=0&size=20",
+            "/api/transactions?page=0&size=20",
+            "/api/transactions/scroll?size=20",
+            "/api/transactions/summary",
+            "/api/categories",
+            "/api/budgets/status",
+    };
+
+    private final Options options;
+
+    private ThreadModeBenchmark(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new ThreadModeBenchmark(new Options(args)).run();
+    }
+
+    private void run() throws Exception {
+        Map<String, LatencyRecorder.Series> results = new TreeMap<>();
+        List<String> modes = new ArrayList<>();
+        for (String mode : options.get("modes", "platform,virtual").split(",")) {
+            modes.add(mode.trim());
+            results.put(mode.trim(), runMode(mode.trim()));
+        }
+
+        int seconds = options.getInt("duration", 30);
+        System.out.printf("%nconcurrency=%d duration=%ds db-latency=%sms pool=%s%n",
+                options.getInt("concurrency", 400), seconds, options.get("db-latency-ms", "2"),
+                options.get("pool-size", "10"));
+        System.out.printf("%-10s %10s %8s %10s %9s %9s %9s %9s%n",
+                "mode", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (String mode : modes) {
+            LatencyRecorder.Series result = results.get(mode);
+            System.out.printf(Locale.ROOT, "%-10s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    mode, result.count(), result.errors(), result.count() / (double) seconds,
+                    result.percentileMillis(50), result.percentileMillis(90), result.percentileMillis(99),
+                    result.percentileMillis(100));
+        }
+        System.exit(0);
+    }
+
+    private LatencyRecorder.Series runMode(String mode) throws Exception {
+        try (EmbeddedTracker tracker = new EmbeddedTracker("loadtest-" + mode, mode.equals("virtual"), options)) {
+            ApiClient api = new ApiClient(tracker.getBaseUrl());
+            System.out.printf("[%s] seeding %d users%n", mode, options.getInt("users", 20));
+            List<Tenant> tenants = new TenantSeeder(api, options.getLong("seed", 42)).seed("load",
+                    options.getInt("users", 20), MONTHS, Math.max(1, options.getInt("transactions", 500) / MONTHS));
+
+            System.out.printf("[%s] warming up for %ds%n", mode, options.getInt("warmup", 10));
+            drive(api, tenants, options.getInt("warmup", 10));
+            System.out.printf("[%s] measuring for %ds%n", mode, options.getInt("duration", 30));
+            return drive(api, tenants, options.getInt("duration", 30));
+        }
+    }
+
+    // Closed loop: each client sends its next request as soon as the previous one completes.
+    private LatencyRecorder.Series drive(ApiClient api, List<Tenant> tenants, int seconds) throws InterruptedException {
+        int concurrency = options.getInt("concurrency", 400);
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        LatencyRecorder[] recorders = new LatencyRecorder[concurrency];
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                LatencyRecorder recorder = recorders[c] = new LatencyRecorder();
+                clients.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        String token = tenants.get(random.nextInt(tenants.size())).token();
+                        api.timed(recorder, "all", "GET", PATHS[random.nextInt(PATHS.length)], token, null);
+                    }
+                    return null;
+                });
+            }
+        }
+
+        Map<String, LatencyRecorder.Series> merged = new TreeMap<>();
+        for (LatencyRecorder recorder : recorders) {
+            recorder.mergeInto(merged);
+        }
+        return merged.getOrDefault("all", new LatencyRecorder.Series());
+    }
+}